@@ -1,5 +1,15 @@
 package br.com.cyber.base.frameworkBase.core;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -10,9 +20,47 @@ import org.openqa.selenium.opera.OperaOptions;
 
 public class BrowserOptions {
 
+	private static FirefoxProfile firefoxProfile;
+	private static FirefoxProfile leanFirefoxProfile;
+
 	public static ChromeOptions chromeOptions(boolean headless) {
+		return chromeOptions(headless, false);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> monta as opções do Chrome. No perfil <i>lean</i>
+	 * imagens, fontes remotas, autoplay e serviços em segundo plano são
+	 * desativados e os hosts de {@link Properties#LEAN_BLOCKED_HOSTS
+	 * LEAN_BLOCKED_HOSTS} / {@link Properties#LEAN_ALLOWED_HOSTS
+	 * LEAN_ALLOWED_HOSTS} são filtrados.
+	 *
+	 * @param headless indica se o navegador será iniciado sem interface.
+	 * @param lean     indica se o perfil <i>lean</i> será utilizado.
+	 * @return {@link ChromeOptions ChromeOptions}
+	 */
+	public static ChromeOptions chromeOptions(boolean headless, boolean lean) {
 		ChromeOptions options = new ChromeOptions();
 
+		if (lean) {
+			Map<String, Object> prefs = new HashMap<>();
+			prefs.put("profile.managed_default_content_settings.images", 2);
+			options.setExperimentalOption("prefs", prefs);
+			options.addArguments("--blink-settings=imagesEnabled=false");
+			options.addArguments("--autoplay-policy=user-gesture-required");
+			options.addArguments("--mute-audio");
+			options.addArguments("--disable-remote-fonts");
+			options.addArguments("--disable-background-networking");
+			options.addArguments("--disable-component-update");
+			options.addArguments("--disable-sync");
+			options.addArguments("--disable-domain-reliability");
+			options.addArguments("--disable-client-side-phishing-detection");
+			options.addArguments("--no-pings");
+			String rules = hostResolverRules();
+			if (!rules.isEmpty())
+				options.addArguments("--host-resolver-rules=" + rules);
+		}
+
 		if (headless) {
 			options.setAcceptInsecureCerts(true);
 			options.setPageLoadStrategy(PageLoadStrategy.NONE);
@@ -35,11 +83,50 @@ public class BrowserOptions {
 	}
 
 	public static FirefoxOptions firefoxOptions(boolean headless) {
+		return firefoxOptions(headless, false);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> monta as opções do Firefox. No perfil <i>lean</i>
+	 * imagens, fontes remotas, autoplay, atualizações e telemetria são
+	 * desativados e os hosts de {@link Properties#LEAN_BLOCKED_HOSTS
+	 * LEAN_BLOCKED_HOSTS} / {@link Properties#LEAN_ALLOWED_HOSTS
+	 * LEAN_ALLOWED_HOSTS} são filtrados através de um PAC.
+	 *
+	 * @param headless indica se o navegador será iniciado sem interface.
+	 * @param lean     indica se o perfil <i>lean</i> será utilizado.
+	 * @return {@link FirefoxOptions FirefoxOptions}
+	 */
+	public static FirefoxOptions firefoxOptions(boolean headless, boolean lean) {
 		FirefoxOptions options = new FirefoxOptions();
+		if (lean)
+			options.setProfile(firefoxProfile(true));
 		if (headless) {
 			FirefoxBinary binary = new FirefoxBinary();
 			binary.addCommandLineOptions("--headless");
 			
+			options.addArguments("window-size=1920,1080");
+			options.setPageLoadStrategy(PageLoadStrategy.NONE);
+			options.setProfile(firefoxProfile(lean));
+			options.setBinary(binary);
+			return options;
+		}
+		return options;
+	}
+	
+	/**
+	 * <p>
+	 * <strong>Função:</strong> monta o perfil do Firefox uma única vez em um
+	 * diretório modelo. O perfil é compartilhado entre as sessões e a sua versão
+	 * compactada em base64 é calculada apenas na primeira sessão.
+	 *
+	 * @param lean indica se as preferências do perfil <i>lean</i> serão incluídas.
+	 * @return {@link FirefoxProfile FirefoxProfile}
+	 */
+	private static synchronized FirefoxProfile firefoxProfile(boolean lean) {
+		FirefoxProfile template = lean ? leanFirefoxProfile : firefoxProfile;
+		if (template == null) {
 			FirefoxProfile profile = new FirefoxProfile();
 			profile.setPreference("browser.download.folderList", 2);
 			profile.setPreference("browser.download.manager.showWhenStarting", false);
@@ -49,16 +136,73 @@ public class BrowserOptions {
 			profile.setPreference("browser.download.manager.focusWhenStarting", false);
 			profile.setPreference("browser.download.manager.useWindow", false);
 			profile.setPreference("browser.download.manager.showAlertOnComplete", false);
-			
-			options.addArguments("window-size=1920,1080");
-			options.setPageLoadStrategy(PageLoadStrategy.NONE);
-			options.setProfile(profile);
-			options.setBinary(binary);
-			return options;
+
+			if (lean) {
+				profile.setPreference("permissions.default.image", 2);
+				profile.setPreference("media.autoplay.default", 5);
+				profile.setPreference("gfx.downloadable_fonts.enabled", false);
+				profile.setPreference("network.prefetch-next", false);
+				profile.setPreference("network.dns.disablePrefetch", true);
+				profile.setPreference("network.http.speculative-parallel-limit", 0);
+				profile.setPreference("app.update.auto", false);
+				profile.setPreference("app.update.enabled", false);
+				profile.setPreference("extensions.update.enabled", false);
+				profile.setPreference("browser.search.update", false);
+				profile.setPreference("browser.safebrowsing.malware.enabled", false);
+				profile.setPreference("browser.safebrowsing.phishing.enabled", false);
+				profile.setPreference("browser.safebrowsing.downloads.enabled", false);
+				profile.setPreference("datareporting.healthreport.uploadEnabled", false);
+				profile.setPreference("datareporting.policy.dataSubmissionEnabled", false);
+				profile.setPreference("toolkit.telemetry.enabled", false);
+				profile.setPreference("network.proxy.type", 2);
+				profile.setPreference("network.proxy.autoconfig_url", proxyAutoConfig());
+			}
+
+			template = new TemplateProfile(profile.layoutOnDisk());
+			if (lean)
+				leanFirefoxProfile = template;
+			else
+				firefoxProfile = template;
 		}
-		return options;
+		return template;
 	}
-	
+
+	private static String hostResolverRules() {
+		List<String> rules = new ArrayList<>();
+		if (Properties.LEAN_ALLOWED_HOSTS.length > 0) {
+			rules.add("MAP * ~NOTFOUND");
+			rules.add("EXCLUDE localhost");
+			rules.add("EXCLUDE 127.0.0.1");
+			for (String host : Properties.LEAN_ALLOWED_HOSTS)
+				rules.add("EXCLUDE " + host);
+		} else {
+			for (String host : Properties.LEAN_BLOCKED_HOSTS)
+				rules.add(String.format("MAP %s ~NOTFOUND", host));
+		}
+		return String.join(", ", rules);
+	}
+
+	private static String proxyAutoConfig() {
+		String script = String.format("function FindProxyForURL(url, host) {"
+				+ "var allowed = [%s], blocked = [%s];"
+				+ "function match(list) { for (var i = 0; i < list.length; i++) if (shExpMatch(host, list[i])) return true; return false; }"
+				+ "if (allowed.length) return (isPlainHostName(host) || host == '127.0.0.1' || match(allowed)) ? 'DIRECT' : 'PROXY 127.0.0.1:9';"
+				+ "return match(blocked) ? 'PROXY 127.0.0.1:9' : 'DIRECT'; }",
+				quote(Properties.LEAN_ALLOWED_HOSTS), quote(Properties.LEAN_BLOCKED_HOSTS));
+		try {
+			return "data:text/plain," + URLEncoder.encode(script, StandardCharsets.UTF_8.name()).replace("+", "%20");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String quote(String[] hosts) {
+		List<String> quoted = new ArrayList<>();
+		for (String host : hosts)
+			quoted.add("'" + host + "'");
+		return String.join(",", quoted);
+	}
+
 	public static EdgeOptions edgeOptions(boolean headless) {
 		EdgeOptions options = new EdgeOptions();
 		if (headless) {
@@ -73,4 +217,19 @@ public class BrowserOptions {
 		return options;
 	}
 
+	private static class TemplateProfile extends FirefoxProfile {
+
+		private String json;
+
+		private TemplateProfile(File template) {
+			super(template);
+		}
+
+		@Override
+		public synchronized String toJson() throws IOException {
+			if (json == null)
+				json = super.toJson();
+			return json;
+		}
+	}
 }
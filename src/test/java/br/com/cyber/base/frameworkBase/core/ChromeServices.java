@@ -0,0 +1,104 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Processos do chromedriver compartilhados entre as sessões da JVM.
+ * <p>
+ * Desativado por padrão. Com {@link Properties#CHROME_SERVICES
+ * CHROME_SERVICES} maior que zero é mantido esse número de processos,
+ * distribuídos entre as sessões em rodízio. Um processo que tenha morrido é
+ * reiniciado na próxima requisição e todos são encerrados junto com a JVM,
+ * depois das sessões, através do {@link DriverShutdown DriverShutdown}.
+ * As sessões se conectam ao serviço como um
+ * {@link org.openqa.selenium.remote.RemoteWebDriver RemoteWebDriver}, pois o
+ * {@link org.openqa.selenium.chrome.ChromeDriver ChromeDriver} encerra o
+ * serviço ao final da sessão.
+ */
+public class ChromeServices {
+
+	private static final Logger log = LoggerFactory.getLogger(ChromeServices.class.getSimpleName());
+
+	private static ChromeDriverService[] services;
+	private static final List<ChromeDriverService> retired = new ArrayList<>();
+	private static final AtomicInteger next = new AtomicInteger();
+
+	private ChromeServices() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o endereço de um chromedriver em execução.
+	 *
+	 * @return {@link URL URL}
+	 * @throws WebDriverException caso não seja possível iniciar o serviço.
+	 */
+	public static URL url() {
+		int index = Math.floorMod(next.getAndIncrement(), slots().length);
+		synchronized (services) {
+			ChromeDriverService service = services[index];
+			if (service == null || !service.isRunning()) {
+				if (service != null)
+					log.warn(String.format("Método: url() - O chromedriver %d parou de responder e será reiniciado.", index));
+				service = start();
+				services[index] = service;
+			}
+			return service.getUrl();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> faz com que as próximas sessões utilizem novos
+	 * processos do chromedriver, iniciados com o driver atualmente configurado.
+	 * Os processos anteriores continuam atendendo as sessões já abertas e são
+	 * encerrados junto com a JVM.
+	 */
+	public static void restart() {
+		synchronized (slots()) {
+			for (int i = 0; i < services.length; i++) {
+				if (services[i] != null)
+					retired.add(services[i]);
+				services[i] = null;
+			}
+		}
+	}
+
+	private static synchronized ChromeDriverService[] slots() {
+		if (services == null) {
+			services = new ChromeDriverService[Math.max(1, Properties.CHROME_SERVICES)];
+			DriverShutdown.services(ChromeServices::stopAll);
+		}
+		return services;
+	}
+
+	private static ChromeDriverService start() {
+		ChromeDriverService service = ChromeDriverService.createDefaultService();
+		try {
+			service.start();
+		} catch (IOException e) {
+			throw new WebDriverException("Falha ao iniciar o chromedriver compartilhado.", e);
+		}
+		log.info(String.format("Método: start() - chromedriver compartilhado iniciado em %s.", service.getUrl()));
+		return service;
+	}
+
+	private static void stopAll() {
+		synchronized (services) {
+			for (ChromeDriverService service : services) {
+				if (service != null)
+					service.stop();
+			}
+			retired.forEach(ChromeDriverService::stop);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.enums.Browsers;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+
+/**
+ * <p>
+ * Resolve os binários dos drivers através do {@link WebDriverManager
+ * WebDriverManager} uma única vez por JVM e por navegador.
+ * <p>
+ * O caminho resolvido é persistido em <i>drivers.properties</i> dentro de
+ * {@link Properties#DRIVER_CACHE DRIVER_CACHE} e reaproveitado pelas próximas
+ * execuções por até {@link Properties#DRIVER_CACHE_DAYS DRIVER_CACHE_DAYS}
+ * dias. Com {@link Properties#DRIVER_OFFLINE DRIVER_OFFLINE} nenhum acesso à
+ * rede é feito e apenas o cache local é utilizado.
+ * <p>
+ * Caso o navegador tenha sido atualizado e o driver em cache não seja mais
+ * compatível, a criação da sessão falha e o {@link DriverFactory DriverFactory}
+ * chama {@link #refresh(Browsers, String)} para resolver o driver novamente
+ * antes de tentar mais uma vez.
+ */
+public class DriverBinaries {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverBinaries.class.getSimpleName());
+
+	private static final Map<Browsers, String> resolved = new ConcurrentHashMap<>();
+	private static final Set<Browsers> pinned = ConcurrentHashMap.newKeySet();
+
+	private DriverBinaries() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> garante que o driver do navegador esteja
+	 * configurado. Somente a primeira chamada por navegador realiza trabalho.
+	 *
+	 * @param browser é o {@link Browsers navegador} que será iniciado.
+	 * @return o caminho do driver configurado.
+	 * @throws WebDriverException caso o modo offline esteja ativo e não exista
+	 *                            driver em cache.
+	 */
+	public static String setup(Browsers browser) {
+		return resolved.computeIfAbsent(browser, DriverBinaries::resolve);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> descarta o driver em cache e resolve o driver
+	 * compatível com o navegador instalado. Não faz nada no modo offline, no grid
+	 * ou quando o caminho do driver foi informado pela propriedade de sistema.
+	 *
+	 * Caso outra thread já tenha atualizado o driver desde a tentativa que
+	 * falhou, nenhum download é feito e o novo driver é utilizado.
+	 *
+	 * @param browser é o {@link Browsers navegador} cuja sessão não foi criada.
+	 * @param used    é o caminho do driver utilizado na tentativa que falhou,
+	 *                obtido em {@link #setup(Browsers)}.
+	 * @return {@link Boolean true} caso o driver atual seja diferente do
+	 *         utilizado.
+	 */
+	public static synchronized boolean refresh(Browsers browser, String used) {
+		if (Properties.DRIVER_OFFLINE || Properties.GRID || pinned.contains(browser))
+			return false;
+		String current = resolved.get(browser);
+		if (current != null && !current.equals(used)) {
+			log.info(String.format("Método: refresh() - Driver de %s já atualizado para %s.", browser, current));
+			return true;
+		}
+		String path = download(browser, true);
+		resolved.put(browser, path);
+		if (path.equals(used))
+			return false;
+		log.info(String.format("Método: refresh() - Driver de %s atualizado para %s.", browser, path));
+		if (browser == Browsers.CHROME && Properties.CHROME_SERVICES > 0)
+			ChromeServices.restart();
+		return true;
+	}
+
+	private static String resolve(Browsers browser) {
+		String property = systemProperty(browser);
+		String path = System.getProperty(property);
+		if (isExecutable(path)) {
+			pinned.add(browser);
+			return path;
+		}
+
+		java.util.Properties cache = load();
+		path = cache.getProperty(browser.name());
+		long age = System.currentTimeMillis() - Long.parseLong(cache.getProperty(browser.name() + ".time", "0"));
+
+		if (isExecutable(path) && (Properties.DRIVER_OFFLINE || age < TimeUnit.DAYS.toMillis(Properties.DRIVER_CACHE_DAYS))) {
+			log.info(String.format("Método: resolve() - Utilizando o driver em cache para %s: %s", browser, path));
+			System.setProperty(property, path);
+			return path;
+		}
+
+		if (Properties.DRIVER_OFFLINE)
+			throw new WebDriverException(String.format("Modo offline ativo e nenhum driver em cache para %s em %s.", browser, Properties.DRIVER_CACHE));
+
+		return download(browser, false);
+	}
+
+	private static String download(Browsers browser, boolean force) {
+		log.info(String.format("Método: resolve() - Resolvendo o driver para %s através do WebDriverManager.", browser));
+		WebDriverManager manager = WebDriverManager.getInstance(DriverManagerType.valueOf(browser.name())).cachePath(Properties.DRIVER_CACHE);
+		if (force)
+			manager.avoidResolutionCache();
+		manager.setup();
+		String path = manager.getDownloadedDriverPath();
+		System.setProperty(systemProperty(browser), path);
+
+		java.util.Properties cache = new java.util.Properties();
+		cache.setProperty(browser.name(), path);
+		cache.setProperty(browser.name() + ".time", String.valueOf(System.currentTimeMillis()));
+		store(cache);
+		return path;
+	}
+
+	private static String systemProperty(Browsers browser) {
+		switch (browser) {
+		case FIREFOX:
+			return "webdriver.gecko.driver";
+		case EDGE:
+			return "webdriver.edge.driver";
+		case OPERA:
+			return "webdriver.opera.driver";
+		default:
+			return "webdriver.chrome.driver";
+		}
+	}
+
+	private static boolean isExecutable(String path) {
+		return path != null && new File(path).canExecute();
+	}
+
+	private static File cacheFile() {
+		return new File(Properties.DRIVER_CACHE, "drivers.properties");
+	}
+
+	private static synchronized java.util.Properties load() {
+		java.util.Properties cache = new java.util.Properties();
+		if (cacheFile().exists()) {
+			try (InputStream in = new FileInputStream(cacheFile())) {
+				cache.load(in);
+			} catch (IOException e) {
+				log.warn(String.format("Método: load() - Falha ao ler o cache de drivers: %s", e.getMessage()));
+			}
+		}
+		return cache;
+	}
+
+	private static synchronized void store(java.util.Properties cache) {
+		java.util.Properties current = load();
+		current.putAll(cache);
+		cacheFile().getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(cacheFile())) {
+			current.store(out, "Drivers resolvidos pelo frameworkBase");
+		} catch (IOException e) {
+			log.warn(String.format("Método: store() - Falha ao gravar o cache de drivers: %s", e.getMessage()));
+		}
+	}
+}
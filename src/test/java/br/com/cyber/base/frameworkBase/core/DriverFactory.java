@@ -1,38 +1,124 @@
 package br.com.cyber.base.frameworkBase.core;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.interaction.ElementCache;
+import br.com.cyber.base.frameworkBase.core.interaction.FrameContext;
 
 public class DriverFactory {
 
+	private static final Logger log = LoggerFactory.getLogger(DriverFactory.class.getSimpleName());
+
+	private static final ThreadLocal<Boolean> threadLean = new ThreadLocal<>();
+	private static final ThreadLocal<Boolean> threadReused = ThreadLocal.withInitial(() -> false);
+	private static final Set<WebDriver> reused = ConcurrentHashMap.newKeySet();
+
+	static {
+		DriverShutdown.drivers(DriverFactory::quitReused);
+	}
+
 	private static ThreadLocal<WebDriver> threadDriver = new ThreadLocal<WebDriver>() {
 		@Override
-		protected synchronized WebDriver initialValue() {
-			return initDriver();
+		protected WebDriver initialValue() {
+			boolean lean = Properties.LEAN || ScenarioContext.get().isLean();
+			threadLean.set(lean);
+			return Properties.POOL ? DriverPool.getInstance().lease(lean) : initDriver(lean);
 		}
 	};
 	
 	private DriverFactory() { }
 	
 	public static WebDriver getDriver() {
+		if (threadReused.get())
+			checkProfile();
 		return threadDriver.get();
 	}
 	
 	public static WebDriver initDriver() {
+		return initDriver(Properties.LEAN);
+	}
+
+	public static WebDriver initDriver(boolean lean) {
 		WebDriver driver = null;
-		driver = Properties.BROWSER.newDriver(Properties.HEADLESS);
+		long start = System.currentTimeMillis();
+		String binary = Properties.GRID ? null : DriverBinaries.setup(Properties.BROWSER);
+		try {
+			driver = Properties.BROWSER.newDriver(Properties.HEADLESS, lean);
+		} catch (SessionNotCreatedException e) {
+			if (!DriverBinaries.refresh(Properties.BROWSER, binary))
+				throw e;
+			log.warn(String.format("Método: initDriver() - Sessão não criada com o driver em cache, tentando novamente: %s", e.getMessage()));
+			driver = Properties.BROWSER.newDriver(Properties.HEADLESS, lean);
+		}
+		log.info(String.format("Método: initDriver() - Sessão %s criada em %d ms.", Properties.BROWSER, System.currentTimeMillis() - start));
 		driver.manage().deleteAllCookies();
 		driver.manage().window().maximize();			
 		return driver;
 	}
 	
 	public static void killDriver() {
-		WebDriver driver = getDriver();
+		WebDriver driver = threadDriver.get();
+		threadReused.set(false);
+		ElementCache.invalidate();
+		FrameContext.reset();
 		if (driver != null) {
-			driver.quit();
+			if (Properties.POOL)
+				DriverPool.getInstance().release(driver);
+			else if (SessionReset.reuse(driver)) {
+				reused.add(driver);
+				threadReused.set(true);
+				return;
+			}
+			else {
+				reused.remove(driver);
+				driver.quit();
+			}
 			driver = null;
 		}
 		if (threadDriver != null) {
 			threadDriver.remove();
 		}
 	}
+
+	/**
+	 * Um navegador reaproveitado fora do pool continua associado à thread. Caso o
+	 * próximo cenário peça outro perfil, como um cenário <i>@lean</i>, o navegador
+	 * é encerrado para que um novo seja criado com o perfil correto.
+	 */
+	private static void checkProfile() {
+		threadReused.set(false);
+		boolean lean = Properties.LEAN || ScenarioContext.get().isLean();
+		if (Boolean.valueOf(lean).equals(threadLean.get()))
+			return;
+		log.info(String.format("Método: getDriver() - O cenário pede o perfil %s, encerrando o navegador reaproveitado.", lean ? "lean" : "padrão"));
+		WebDriver driver = threadDriver.get();
+		threadDriver.remove();
+		reused.remove(driver);
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			log.warn(String.format("Método: getDriver() - Falha ao encerrar o navegador: %s", e.getMessage()));
+		}
+	}
+
+	/**
+	 * Os navegadores reaproveitados fora do pool continuam associados às threads
+	 * entre os cenários, então são encerrados junto com a JVM.
+	 */
+	private static void quitReused() {
+		for (WebDriver driver : reused) {
+			try {
+				driver.quit();
+			} catch (Exception e) {
+				log.warn(String.format("Método: quitReused() - Falha ao encerrar o navegador: %s", e.getMessage()));
+			}
+		}
+		reused.clear();
+	}
 }
@@ -0,0 +1,278 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.time.Instant;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.exceptions.DriverPoolException;
+
+/**
+ * <p>
+ * Pool de navegadores <i>pré-aquecidos</i> utilizado pelo
+ * {@link DriverFactory DriverFactory}.
+ * <p>
+ * Os navegadores são iniciados em segundo plano antes de serem requisitados,
+ * respeitando os limites {@link Properties#POOL_MIN POOL_MIN} e
+ * {@link Properties#POOL_MAX POOL_MAX}. Navegadores ociosos por mais de
+ * {@link Properties#POOL_IDLE_SECONDS POOL_IDLE_SECONDS} são encerrados e todo
+ * navegador passa por uma verificação de saúde antes de ser entregue.
+ * Navegadores devolvidos são reaproveitados através do {@link SessionReset
+ * SessionReset} quando possível. Navegadores do perfil <i>lean</i> e do perfil
+ * padrão são mantidos separados.
+ *
+ * @see DriverFactory#getDriver()
+ * @see DriverFactory#killDriver()
+ */
+public class DriverPool {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverPool.class.getSimpleName());
+
+	private static final long POLL_MILLIS = 250;
+
+	private static DriverPool instance;
+
+	private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+	private final Map<WebDriver, Boolean> live = new ConcurrentHashMap<>();
+	private final AtomicInteger[] warming = { new AtomicInteger(), new AtomicInteger() };
+	private final AtomicInteger[] waiting = { new AtomicInteger(), new AtomicInteger() };
+	private final AtomicReferenceArray<RuntimeException> lastFailure = new AtomicReferenceArray<>(2);
+	private final Semaphore capacity;
+	private final ExecutorService warmer;
+	private final ScheduledExecutorService evictor;
+
+	private DriverPool() {
+		capacity = new Semaphore(Math.max(1, Properties.POOL_MAX));
+		warmer = Executors.newCachedThreadPool(daemon("driver-pool-warmer"));
+		evictor = Executors.newSingleThreadScheduledExecutor(daemon("driver-pool-evictor"));
+		evictor.scheduleWithFixedDelay(this::evict, Properties.POOL_IDLE_SECONDS, Properties.POOL_IDLE_SECONDS, TimeUnit.SECONDS);
+		DriverShutdown.drivers(this::shutdown);
+		fill();
+	}
+
+	public static synchronized DriverPool getInstance() {
+		if (instance == null)
+			instance = new DriverPool();
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> entrega um navegador aquecido e saudável com o
+	 * perfil padrão da execução.
+	 *
+	 * @return {@link WebDriver WebDriver}
+	 * @throws DriverPoolException caso nenhum navegador fique disponível a tempo.
+	 * @see #lease(boolean)
+	 */
+	public WebDriver lease() {
+		return lease(Properties.LEAN);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> entrega um navegador aquecido e saudável do perfil
+	 * informado, aguardando até {@link Properties#POOL_LEASE_SECONDS
+	 * POOL_LEASE_SECONDS} caso nenhum esteja disponível.
+	 *
+	 * @param lean indica se o navegador deve utilizar o perfil <i>lean</i>.
+	 * @return {@link WebDriver WebDriver}
+	 * @throws DriverPoolException caso nenhum navegador fique disponível a tempo.
+	 * @see BrowserOptions
+	 */
+	public WebDriver lease(boolean lean) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Properties.POOL_LEASE_SECONDS);
+		waiting[index(lean)].incrementAndGet();
+		try {
+			while (true) {
+				fill();
+				PooledDriver pooled = take(lean);
+				if (pooled == null) {
+					RuntimeException failure = lastFailure.getAndSet(index(lean), null);
+					if (failure != null)
+						throw failure;
+					if (System.nanoTime() >= deadline)
+						throw new DriverPoolException(String.format("Nenhum navegador disponível no pool após %d segundos.", Properties.POOL_LEASE_SECONDS));
+					synchronized (idle) {
+						idle.wait(POLL_MILLIS);
+					}
+					continue;
+				}
+
+				if (isHealthy(pooled.driver)) {
+					log.info(String.format("Método: lease() - Navegador entregue. Ociosos: %d, em aquecimento: %d.", idle.size(), warming[index(lean)].get()));
+					return pooled.driver;
+				}
+				log.warn("Método: lease() - Navegador do pool não respondeu à verificação de saúde e será descartado.");
+				discard(pooled.driver);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DriverPoolException("A thread foi interrompida enquanto aguardava um navegador do pool.", e);
+		} finally {
+			waiting[index(lean)].decrementAndGet();
+			fill();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> devolve o navegador ao pool. Caso a sessão possa ser
+	 * reaproveitada ela volta para a fila de ociosos, senão o navegador é
+	 * encerrado e a vaga liberada para que um novo seja aquecido em segundo plano.
+	 *
+	 * @param driver é o {@link WebDriver navegador} obtido em {@link #lease()}.
+	 */
+	public void release(WebDriver driver) {
+		if (driver == null)
+			return;
+		Boolean lean = live.get(driver);
+		if (lean != null && SessionReset.reuse(driver)) {
+			offer(new PooledDriver(driver, lean), true);
+			return;
+		}
+		discard(driver);
+		fill();
+	}
+
+	private PooledDriver take(boolean lean) {
+		for (PooledDriver pooled : idle) {
+			if (pooled.lean == lean && idle.removeFirstOccurrence(pooled))
+				return pooled;
+		}
+		return null;
+	}
+
+	private void offer(PooledDriver pooled, boolean first) {
+		if (first)
+			idle.offerFirst(pooled);
+		else
+			idle.offerLast(pooled);
+		synchronized (idle) {
+			idle.notifyAll();
+		}
+	}
+
+	private int idle(boolean lean) {
+		int count = 0;
+		for (PooledDriver pooled : idle) {
+			if (pooled.lean == lean)
+				count++;
+		}
+		return count;
+	}
+
+	private void fill() {
+		for (boolean lean : new boolean[] { Properties.LEAN, !Properties.LEAN }) {
+			int min = (lean == Properties.LEAN) ? Properties.POOL_MIN : 0;
+			while (idle(lean) + warming[index(lean)].get() < min + waiting[index(lean)].get() && acquire(lean)) {
+				warming[index(lean)].incrementAndGet();
+				warmer.execute(() -> warm(lean));
+			}
+		}
+	}
+
+	private boolean acquire(boolean lean) {
+		if (capacity.tryAcquire())
+			return true;
+		PooledDriver other = take(!lean);
+		if (other == null)
+			return false;
+		log.info("Método: fill() - Encerrando navegador ocioso de outro perfil para liberar vaga.");
+		discard(other.driver);
+		return capacity.tryAcquire();
+	}
+
+	private void warm(boolean lean) {
+		try {
+			WebDriver driver = DriverFactory.initDriver(lean);
+			live.put(driver, lean);
+			offer(new PooledDriver(driver, lean), false);
+			log.info(String.format("Método: warm() - Navegador%s aquecido e disponível no pool.", lean ? " lean" : ""));
+		} catch (RuntimeException e) {
+			capacity.release();
+			lastFailure.set(index(lean), e);
+			log.error(String.format("Método: warm() - Falha ao iniciar um navegador para o pool: %s", e.getMessage()));
+		} finally {
+			warming[index(lean)].decrementAndGet();
+		}
+	}
+
+	private void evict() {
+		Instant limit = Instant.now().minusSeconds(Properties.POOL_IDLE_SECONDS);
+		for (PooledDriver pooled : idle) {
+			int min = (pooled.lean == Properties.LEAN) ? Properties.POOL_MIN : 0;
+			if (idle(pooled.lean) <= min)
+				continue;
+			if (pooled.idleSince.isBefore(limit) && idle.removeFirstOccurrence(pooled)) {
+				log.info("Método: evict() - Encerrando navegador ocioso do pool.");
+				discard(pooled.driver);
+			}
+		}
+	}
+
+	private void discard(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			log.warn(String.format("Método: discard() - Falha ao encerrar o navegador: %s", e.getMessage()));
+		} finally {
+			if (live.remove(driver) != null)
+				capacity.release();
+		}
+	}
+
+	private void shutdown() {
+		evictor.shutdownNow();
+		warmer.shutdownNow();
+		idle.clear();
+		live.keySet().forEach(this::discard);
+	}
+
+	private static int index(boolean lean) {
+		return lean ? 1 : 0;
+	}
+
+	private static boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private static ThreadFactory daemon(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static class PooledDriver {
+
+		private final WebDriver driver;
+		private final boolean lean;
+		private final Instant idleSince = Instant.now();
+
+		private PooledDriver(WebDriver driver, boolean lean) {
+			this.driver = driver;
+			this.lean = lean;
+		}
+	}
+}
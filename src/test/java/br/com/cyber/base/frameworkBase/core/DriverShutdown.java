@@ -0,0 +1,69 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Encerramento ordenado dos navegadores e dos serviços dos drivers junto com a
+ * JVM.
+ * <p>
+ * A JVM executa os <i>shutdown hooks</i> em paralelo. Por isso cada componente
+ * registra aqui a sua etapa, e um único hook encerra primeiro os navegadores e
+ * depois os serviços. Assim nenhum chromedriver é encerrado enquanto as
+ * sessões atendidas por ele ainda recebem o <i>quit</i>.
+ *
+ * @see DriverPool
+ * @see ChromeServices
+ */
+final class DriverShutdown {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverShutdown.class.getSimpleName());
+
+	private static final List<Runnable> driverStages = new CopyOnWriteArrayList<>();
+	private static final List<Runnable> serviceStages = new CopyOnWriteArrayList<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(DriverShutdown::run, "driver-shutdown"));
+	}
+
+	private DriverShutdown() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra uma etapa que encerra navegadores,
+	 * executada antes de qualquer serviço.
+	 *
+	 * @param stage é a {@link Runnable etapa} de encerramento.
+	 */
+	static void drivers(Runnable stage) {
+		driverStages.add(stage);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra uma etapa que encerra serviços dos
+	 * drivers, executada depois que todos os navegadores foram encerrados.
+	 *
+	 * @param stage é a {@link Runnable etapa} de encerramento.
+	 */
+	static void services(Runnable stage) {
+		serviceStages.add(stage);
+	}
+
+	private static void run() {
+		driverStages.forEach(DriverShutdown::execute);
+		serviceStages.forEach(DriverShutdown::execute);
+	}
+
+	private static void execute(Runnable stage) {
+		try {
+			stage.run();
+		} catch (RuntimeException e) {
+			log.warn(String.format("Método: run() - Falha em uma etapa do encerramento: %s", e.getMessage()));
+		}
+	}
+}
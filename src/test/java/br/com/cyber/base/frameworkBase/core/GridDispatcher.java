@@ -0,0 +1,225 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.exceptions.GridException;
+
+/**
+ * <p>
+ * Distribui as sessões remotas entre os hubs/nós configurados em
+ * {@link Properties#GRID_NODES GRID_NODES}.
+ * <p>
+ * Cada nó possui {@link Properties#GRID_SLOTS GRID_SLOTS} vagas. A sessão é
+ * criada no nó menos carregado e, caso ele recuse, os demais são tentados.
+ * Quando todos os nós estão cheios a requisição aguarda na fila por até
+ * {@link Properties#GRID_QUEUE_SECONDS GRID_QUEUE_SECONDS} e o tempo de espera
+ * é registrado no log. Recusas por falta de vaga ou por falha de comunicação
+ * voltam para a fila. Quando todos os nós recusam por outro motivo, como
+ * capacidades não suportadas, a sessão falha sem aguardar a fila.
+ */
+public class GridDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(GridDispatcher.class.getSimpleName());
+
+	private static final Pattern CAPACITY = Pattern.compile(
+			"timed? ?out|capacity|busy|too many|no (free|available) (slots?|nodes?)|queue", Pattern.CASE_INSENSITIVE);
+
+	private static final Object lock = new Object();
+	private static List<Node> nodes;
+
+	private GridDispatcher() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria uma sessão remota no nó com mais vagas livres.
+	 *
+	 * @param capabilities são as {@link Capabilities capacidades} da sessão.
+	 * @return {@link WebDriver WebDriver}
+	 * @throws GridException caso nenhum nó aceite a sessão dentro do tempo de fila.
+	 */
+	public static WebDriver newDriver(Capabilities capabilities) {
+		Instant start = Instant.now();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Properties.GRID_QUEUE_SECONDS);
+		Refusals refused = new Refusals();
+
+		while (true) {
+			Node node = acquire(refused, deadline);
+			Duration queue = Duration.between(start, Instant.now());
+			try {
+				WebDriver driver = new GridDriver(node, capabilities);
+				int inUse;
+				synchronized (lock) {
+					inUse = node.inUse;
+				}
+				log.info(String.format("Método: newDriver() - Sessão criada em %s após %d ms de fila. Vagas em uso: %d/%d.",
+						node.url, queue.toMillis(), inUse, node.slots));
+				return driver;
+
+			} catch (Exception e) {
+				log.warn(String.format("Método: newDriver() - O nó %s recusou a sessão: %s", node.url, e.getMessage()));
+				release(node);
+				refused.add(node, e);
+			}
+		}
+	}
+
+	private static Node acquire(Refusals refused, long deadline) {
+		synchronized (lock) {
+			while (true) {
+				Optional<Node> node = nodes().stream()
+						.filter(n -> !refused.excludes(n) && n.inUse < n.slots)
+						.min(Comparator.comparingDouble(n -> (double) n.inUse / n.slots));
+				if (node.isPresent()) {
+					node.get().inUse++;
+					return node.get();
+				}
+				if (refused.rejected.containsAll(nodes()))
+					throw new GridException(String.format("Todos os nós do Selenium grid recusaram a sessão: %s", firstLine(refused.last)), refused.last);
+				if (nodes().stream().allMatch(refused::excludes))
+					refused.busy.clear();
+
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0)
+					throw new GridException(String.format("Nenhum nó do Selenium grid aceitou a sessão em %d segundos.", Properties.GRID_QUEUE_SECONDS), refused.last);
+				try {
+					TimeUnit.NANOSECONDS.timedWait(lock, Math.min(remaining, TimeUnit.SECONDS.toNanos(1)));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new GridException("A thread foi interrompida enquanto aguardava uma vaga no Selenium grid.");
+				}
+			}
+		}
+	}
+
+	private static void release(Node node) {
+		synchronized (lock) {
+			node.inUse--;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Descarta os nós conhecidos para que {@link Properties#GRID_NODES GRID_NODES}
+	 * seja lido novamente na próxima sessão.
+	 */
+	static void reset() {
+		synchronized (lock) {
+			nodes = null;
+		}
+	}
+
+	/**
+	 * As exceções do Selenium acrescentam à mensagem do servidor as informações
+	 * do ambiente nas linhas seguintes, como o tempo do comando.
+	 */
+	private static String firstLine(Throwable e) {
+		String message = String.valueOf(e.getMessage());
+		int end = message.indexOf('\n');
+		return end < 0 ? message : message.substring(0, end);
+	}
+
+	private static List<Node> nodes() {
+		if (nodes == null) {
+			nodes = new ArrayList<>();
+			for (String url : Properties.GRID_NODES) {
+				try {
+					nodes.add(new Node(new URL(url), Math.max(1, Properties.GRID_SLOTS)));
+				} catch (MalformedURLException e) {
+					throw new GridException(String.format("Endereço inválido para o Selenium grid: %s", url));
+				}
+			}
+			if (nodes.isEmpty())
+				throw new GridException("Nenhum endereço configurado para o Selenium grid.");
+		}
+		return nodes;
+	}
+
+	private static class Node {
+
+		private final URL url;
+		private final int slots;
+		private int inUse;
+
+		private Node(URL url, int slots) {
+			this.url = url;
+			this.slots = slots;
+		}
+	}
+
+	/**
+	 * Nós que recusaram a sessão. Os que recusaram por falta de vaga ou por falha
+	 * de comunicação voltam a ser tentados na próxima volta pela fila, os demais
+	 * não são tentados novamente.
+	 */
+	private static class Refusals {
+
+		private final Set<Node> busy = new HashSet<>();
+		private final Set<Node> rejected = new HashSet<>();
+		private Exception last;
+
+		private void add(Node node, Exception e) {
+			last = e;
+			if (isTransient(e))
+				busy.add(node);
+			else
+				rejected.add(node);
+		}
+
+		private boolean excludes(Node node) {
+			return busy.contains(node) || rejected.contains(node);
+		}
+
+		private static boolean isTransient(Exception e) {
+			if (e instanceof TimeoutException || e instanceof UnreachableBrowserException)
+				return true;
+			for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+				if (cause instanceof java.io.IOException)
+					return true;
+				if (CAPACITY.matcher(firstLine(cause)).find())
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static class GridDriver extends RemoteWebDriver {
+
+		private final Node node;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private GridDriver(Node node, Capabilities capabilities) {
+			super(PooledHttpClientFactory.executor(node.url), capabilities);
+			this.node = node;
+		}
+
+		@Override
+		public void quit() {
+			try {
+				super.quit();
+			} finally {
+				if (released.compareAndSet(false, true))
+					release(node);
+			}
+		}
+	}
+}
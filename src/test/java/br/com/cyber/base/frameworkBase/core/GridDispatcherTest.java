@@ -0,0 +1,199 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.cyber.base.frameworkBase.core.exceptions.GridException;
+
+/**
+ * <p>
+ * Verifica a distribuição de sessões do {@link GridDispatcher GridDispatcher}
+ * contra nós simulados por servidores HTTP locais.
+ */
+public class GridDispatcherTest {
+
+	private final List<StubNode> stubs = new ArrayList<>();
+	private final List<WebDriver> drivers = new ArrayList<>();
+
+	private String[] nodes;
+	private int slots;
+	private int queueSeconds;
+
+	@BeforeMethod
+	public void salvarPropriedades() {
+		nodes = Properties.GRID_NODES;
+		slots = Properties.GRID_SLOTS;
+		queueSeconds = Properties.GRID_QUEUE_SECONDS;
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void restaurarPropriedades() {
+		drivers.forEach(WebDriver::quit);
+		drivers.clear();
+		stubs.forEach(StubNode::stop);
+		stubs.clear();
+		Properties.GRID_NODES = nodes;
+		Properties.GRID_SLOTS = slots;
+		Properties.GRID_QUEUE_SECONDS = queueSeconds;
+		GridDispatcher.reset();
+	}
+
+	@Test
+	public void criaSessaoNoNoMenosCarregado() throws IOException {
+		StubNode a = node(null);
+		StubNode b = node(null);
+		StubNode c = node(null);
+		configure(2, 5, a, b, c);
+
+		for (int i = 0; i < 3; i++)
+			drivers.add(GridDispatcher.newDriver(new DesiredCapabilities()));
+
+		assertEquals(a.sessions.get(), 1);
+		assertEquals(b.sessions.get(), 1);
+		assertEquals(c.sessions.get(), 1);
+
+		drivers.add(GridDispatcher.newDriver(new DesiredCapabilities()));
+		assertEquals(a.sessions.get() + b.sessions.get() + c.sessions.get(), 4);
+	}
+
+	@Test
+	public void tentaOutroNoQuandoUmRecusa() throws IOException {
+		StubNode refusing = node("Unable to find provider for session");
+		StubNode accepting = node(null);
+		configure(1, 5, refusing, accepting);
+
+		drivers.add(GridDispatcher.newDriver(new DesiredCapabilities()));
+
+		assertEquals(refusing.attempts.get(), 1);
+		assertEquals(refusing.sessions.get(), 0);
+		assertEquals(accepting.sessions.get(), 1);
+	}
+
+	@Test
+	public void falhaAoExcederOTempoDeFila() throws IOException {
+		StubNode only = node(null);
+		configure(1, 1, only);
+		drivers.add(GridDispatcher.newDriver(new DesiredCapabilities()));
+
+		long start = System.nanoTime();
+		assertThrows(GridException.class, () -> GridDispatcher.newDriver(new DesiredCapabilities()));
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(elapsed >= 1000, "A fila terminou antes do prazo: " + elapsed + " ms");
+		assertTrue(elapsed < 5000, "A fila excedeu o prazo: " + elapsed + " ms");
+		assertEquals(only.attempts.get(), 1);
+	}
+
+	@Test
+	public void falhaSemAguardarQuandoTodosRecusam() throws IOException {
+		StubNode a = node("Unable to find provider for session");
+		StubNode b = node("Unable to find provider for session");
+		configure(1, 30, a, b);
+
+		long start = System.nanoTime();
+		GridException error = expectThrows(GridException.class, () -> GridDispatcher.newDriver(new DesiredCapabilities()));
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(elapsed < 5000, "A recusa aguardou a fila: " + elapsed + " ms");
+		assertNotNull(error.getCause());
+		assertTrue(error.getCause().getMessage().startsWith("Unable to find provider for session"), error.getCause().getMessage());
+		assertEquals(a.attempts.get(), 1);
+		assertEquals(b.attempts.get(), 1);
+	}
+
+	@Test
+	public void aguardaAFilaQuandoONoEstaCheio() throws IOException {
+		StubNode busy = node("All slots are busy");
+		configure(1, 2, busy);
+
+		GridException error = expectThrows(GridException.class, () -> GridDispatcher.newDriver(new DesiredCapabilities()));
+
+		assertNotNull(error.getCause());
+		assertTrue(busy.attempts.get() >= 2, "O nó foi tentado " + busy.attempts.get() + " vez(es).");
+	}
+
+	private void configure(int gridSlots, int gridQueueSeconds, StubNode... nodes) {
+		String[] urls = new String[nodes.length];
+		for (int i = 0; i < nodes.length; i++)
+			urls[i] = nodes[i].url;
+		Properties.GRID_NODES = urls;
+		Properties.GRID_SLOTS = gridSlots;
+		Properties.GRID_QUEUE_SECONDS = gridQueueSeconds;
+		GridDispatcher.reset();
+	}
+
+	/**
+	 * @param refusal é a mensagem com que o nó recusa as sessões ou <i>null</i>
+	 *                para aceitá-las.
+	 */
+	private StubNode node(String refusal) throws IOException {
+		StubNode node = new StubNode(refusal);
+		stubs.add(node);
+		return node;
+	}
+
+	/**
+	 * Nó simulado que responde à criação e ao encerramento de sessões no
+	 * protocolo W3C.
+	 */
+	private static class StubNode {
+
+		private final HttpServer server;
+		private final String url;
+		private final AtomicInteger attempts = new AtomicInteger();
+		private final AtomicInteger sessions = new AtomicInteger();
+
+		private StubNode(String refusal) throws IOException {
+			server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+			server.createContext("/session", exchange -> {
+				if (!"POST".equals(exchange.getRequestMethod())) {
+					respond(exchange, 200, "{\"value\":null}");
+					return;
+				}
+				attempts.incrementAndGet();
+				if (refusal != null) {
+					respond(exchange, 500, String.format("{\"value\":{\"error\":\"session not created\",\"message\":\"%s\",\"stacktrace\":\"\"}}", refusal));
+					return;
+				}
+				int id = sessions.incrementAndGet();
+				respond(exchange, 200, String.format("{\"value\":{\"sessionId\":\"stub-%d\",\"capabilities\":{\"browserName\":\"chrome\"}}}", id));
+			});
+			server.start();
+			url = String.format("http://127.0.0.1:%d", server.getAddress().getPort());
+		}
+
+		private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+			exchange.getRequestBody().readAllBytes();
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+
+		private void stop() {
+			server.stop(0);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.internal.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import okhttp3.ConnectionPool;
+
+/**
+ * <p>
+ * Fábrica de clientes HTTP utilizada pelos {@link
+ * org.openqa.selenium.remote.RemoteWebDriver RemoteWebDriver} do framework.
+ * <p>
+ * Todas as sessões compartilham o mesmo pool de conexões <i>keep-alive</i>.
+ * Comandos lentos (criação de sessão, navegação, screenshots e scripts
+ * assíncronos) utilizam {@link Properties#HTTP_SLOW_READ_SECONDS
+ * HTTP_SLOW_READ_SECONDS} e os demais {@link Properties#HTTP_READ_SECONDS
+ * HTTP_READ_SECONDS}. A latência de cada tipo de comando é acumulada em
+ * {@link #latencies()} e registrada no log ao final da execução.
+ */
+public class PooledHttpClientFactory implements HttpClient.Factory {
+
+	private static final Logger log = LoggerFactory.getLogger(PooledHttpClientFactory.class.getSimpleName());
+
+	private static final Pattern SESSION = Pattern.compile("^/session/[^/]+");
+	private static final Pattern ELEMENT = Pattern.compile("/element/(?!active)[^/]+");
+	private static final Pattern SLOW = Pattern.compile(
+			"^/session$|/url$|/refresh$|/back$|/forward$|screenshot|/execute/async$|/execute_async$|/print$|/goog/cdp/execute$");
+
+	private static final long DEADLINE_GRACE_MILLIS = 1000;
+
+	/**
+	 * Comando do chromedriver que executa um comando do DevTools na sessão.
+	 */
+	public static final String EXECUTE_CDP_COMMAND = "executeCdpCommand";
+
+	private static final PooledHttpClientFactory instance = new PooledHttpClientFactory();
+	private static final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+
+	private final ConnectionPool pool;
+	private final okhttp3.OkHttpClient fast;
+	private final okhttp3.OkHttpClient slow;
+
+	private PooledHttpClientFactory() {
+		pool = new ConnectionPool(Properties.HTTP_MAX_IDLE, Properties.HTTP_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+		fast = new okhttp3.OkHttpClient.Builder()
+				.connectionPool(pool)
+				.followRedirects(true)
+				.retryOnConnectionFailure(true)
+				.connectTimeout(Properties.HTTP_CONNECT_SECONDS, TimeUnit.SECONDS)
+				.readTimeout(Properties.HTTP_READ_SECONDS, TimeUnit.SECONDS)
+				.writeTimeout(Properties.HTTP_READ_SECONDS, TimeUnit.SECONDS)
+				.build();
+		slow = fast.newBuilder()
+				.readTimeout(Properties.HTTP_SLOW_READ_SECONDS, TimeUnit.SECONDS)
+				.writeTimeout(Properties.HTTP_SLOW_READ_SECONDS, TimeUnit.SECONDS)
+				.build();
+		Runtime.getRuntime().addShutdownHook(new Thread(PooledHttpClientFactory::logLatencies, "http-latency-report"));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria o executor de comandos de um
+	 * {@link org.openqa.selenium.remote.RemoteWebDriver RemoteWebDriver} que
+	 * utiliza o pool de conexões compartilhado. O executor também conhece o
+	 * comando {@link #EXECUTE_CDP_COMMAND EXECUTE_CDP_COMMAND} do chromedriver.
+	 *
+	 * @param url é o {@link URL endereço} do hub, nó ou driver.
+	 * @return {@link HttpCommandExecutor HttpCommandExecutor}
+	 */
+	public static HttpCommandExecutor executor(URL url) {
+		return new HttpCommandExecutor(
+				Collections.singletonMap(EXECUTE_CDP_COMMAND, new CommandInfo("/session/:sessionId/goog/cdp/execute", HttpMethod.POST)),
+				url, instance);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna a latência acumulada por tipo de comando,
+	 * no formato <i>quantidade, média e máximo em milissegundos</i>.
+	 *
+	 * @return {@link Map Map}
+	 */
+	public static Map<String, String> latencies() {
+		Map<String, String> snapshot = new TreeMap<>();
+		latencies.forEach((command, latency) -> snapshot.put(command, latency.toString()));
+		return snapshot;
+	}
+
+	@Override
+	public HttpClient.Builder builder() {
+		return new HttpClient.Builder() {
+			@Override
+			public HttpClient createClient(URL url) {
+				return new RoutedClient(fast, slow, url);
+			}
+		};
+	}
+
+	@Override
+	public void cleanupIdleClients() {
+		pool.evictAll();
+	}
+
+	private static void logLatencies() {
+		if (!latencies.isEmpty())
+			latencies().forEach((command, latency) -> log.info(String.format("Latência de %s: %s", command, latency)));
+	}
+
+	private static class RoutedClient implements HttpClient {
+
+		private final okhttp3.OkHttpClient fastClient;
+		private final okhttp3.OkHttpClient slowClient;
+		private final URL url;
+		private final HttpClient fast;
+		private final HttpClient slow;
+
+		private RoutedClient(okhttp3.OkHttpClient fastClient, okhttp3.OkHttpClient slowClient, URL url) {
+			this.fastClient = fastClient;
+			this.slowClient = slowClient;
+			this.url = url;
+			this.fast = new OkHttpClient(fastClient, url);
+			this.slow = new OkHttpClient(slowClient, url);
+		}
+
+		@Override
+		public HttpResponse execute(HttpRequest request) throws IOException {
+			String path = SESSION.matcher(request.getUri()).replaceFirst("");
+			String command = request.getMethod() + " " + ELEMENT.matcher(path).replaceAll("/element/{id}");
+			boolean isSlow = SLOW.matcher(request.getUri()).find();
+
+			long start = System.nanoTime();
+			try {
+				return client(isSlow).execute(request);
+			} finally {
+				latencies.computeIfAbsent(command, c -> new Latency()).add(System.nanoTime() - start);
+			}
+		}
+
+		/**
+		 * Durante um passo com orçamento de tempo, o comando aguarda a resposta
+		 * somente pelo tempo restante, acrescido de uma folga para que esperas
+		 * assíncronas limitadas ao mesmo orçamento possam responder.
+		 */
+		private HttpClient client(boolean isSlow) {
+			okhttp3.OkHttpClient base = isSlow ? slowClient : fastClient;
+			Duration remaining = ScenarioDeadline.remaining();
+			if (remaining == null)
+				return isSlow ? slow : fast;
+			if (remaining.isNegative() || remaining.isZero())
+				throw new TimeoutException("O orçamento de tempo do cenário ou do passo se esgotou.");
+			long timeout = remaining.toMillis() + DEADLINE_GRACE_MILLIS;
+			if (timeout >= base.readTimeoutMillis())
+				return isSlow ? slow : fast;
+			return new OkHttpClient(base.newBuilder()
+					.readTimeout(timeout, TimeUnit.MILLISECONDS)
+					.writeTimeout(timeout, TimeUnit.MILLISECONDS)
+					.build(), url);
+		}
+	}
+
+	private static class Latency {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+		private void add(long nanos) {
+			count.increment();
+			total.add(nanos);
+			max.accumulate(nanos);
+		}
+
+		@Override
+		public String toString() {
+			long n = Math.max(1, count.sum());
+			return String.format("%d comandos, média de %d ms, máximo de %d ms", count.sum(),
+					TimeUnit.NANOSECONDS.toMillis(total.sum() / n), TimeUnit.NANOSECONDS.toMillis(max.get()));
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package br.com.cyber.base.frameworkBase.core;
 
+import java.io.File;
+
 import br.com.cyber.base.frameworkBase.enums.Browsers;
 
 public class Properties {
@@ -9,4 +11,65 @@ public class Properties {
 	public static boolean GRID = false;
 	public static Browsers BROWSER = Browsers.CHROME;
 
+	public static String[] GRID_NODES = { "http://localhost:4444/wd/hub" };
+	public static int GRID_SLOTS = 5;
+	public static int GRID_QUEUE_SECONDS = 300;
+
+	public static int HTTP_CONNECT_SECONDS = 10;
+	public static int HTTP_READ_SECONDS = 60;
+	public static int HTTP_SLOW_READ_SECONDS = 180;
+	public static int HTTP_MAX_IDLE = 20;
+	public static int HTTP_KEEP_ALIVE_SECONDS = 300;
+
+	public static boolean LEAN = Boolean.getBoolean("lean");
+	public static String[] LEAN_ALLOWED_HOSTS = { };
+	public static String[] LEAN_BLOCKED_HOSTS = {
+			"*.google-analytics.com",
+			"*.googletagmanager.com",
+			"*.doubleclick.net",
+			"*.facebook.net",
+			"*.hotjar.com",
+			"fonts.googleapis.com",
+			"fonts.gstatic.com"
+	};
+
+	public static boolean POOL = false;
+	public static int POOL_MIN = 1;
+	public static int POOL_MAX = Runtime.getRuntime().availableProcessors();
+	public static int POOL_IDLE_SECONDS = 300;
+	public static int POOL_LEASE_SECONDS = 120;
+
+	public static boolean REUSE = false;
+	public static int REUSE_LIMIT = 25;
+
+	public static boolean DRIVER_OFFLINE = false;
+	public static int DRIVER_CACHE_DAYS = 7;
+	public static int CHROME_SERVICES = 0;
+	public static String DRIVER_CACHE = System.getProperty("user.home") + File.separator + ".cache" + File.separator + "selenium";
+
+	public static boolean AWAIT_OBSERVER = true;
+	public static int AWAIT_SLICE_SECONDS = 10;
+	public static boolean LOCATOR_COMPILER = true;
+
+	public static int PAGE_IDLE_QUIET_MILLIS = 500;
+	public static int PAGE_IDLE_TIMEOUT_SECONDS = 30;
+
+	public static int INPUT_KEY_DELAY_MILLIS = 50;
+
+	public static int SCENARIO_BUDGET_SECONDS = 0;
+	public static int STEP_BUDGET_SECONDS = 0;
+
+	public static boolean LATENCY_ADAPTIVE = false;
+	public static int LATENCY_SAMPLES = 200;
+	public static int LATENCY_MIN_SAMPLES = 20;
+	public static double LATENCY_FACTOR = 3.0;
+	public static int LATENCY_MIN_TIMEOUT_SECONDS = 2;
+	public static int LATENCY_MAX_TIMEOUT_SECONDS = 60;
+	public static String LATENCY_STORE = ".frameworkBase" + File.separator + "latencies.properties";
+
+	public static boolean SCREENSHOT_NATIVE = true;
+	public static int SCREENSHOT_WRITERS = 2;
+	public static int SCREENSHOT_QUEUE = 8;
+	public static int SCREENSHOT_FLUSH_SECONDS = 60;
+
 }
@@ -0,0 +1,106 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cucumber.core.api.Scenario;
+
+/**
+ * <p>
+ * Contexto do <i>cenário</i> em execução, criado a cada cenário pelo
+ * {@link br.com.cyber.base.frameworkBase.execute.hooks.HookBefore HookBefore}.
+ * <p>
+ * Assim como o {@link DriverFactory DriverFactory}, cada thread possui o seu
+ * próprio contexto, permitindo que hooks, steps, PageObjects e exceções
+ * compartilhem dados do cenário sem interferir em execuções paralelas. O
+ * contexto é descartado ao final do cenário pelo
+ * {@link br.com.cyber.base.frameworkBase.execute.hooks.HookAfter HookAfter},
+ * para que os dados não permaneçam nas threads reaproveitadas pelo TestNG.
+ */
+public class ScenarioContext {
+
+	private static final Logger log = LoggerFactory.getLogger(ScenarioContext.class.getSimpleName());
+
+	private static final ThreadLocal<ScenarioContext> threadContext = new ThreadLocal<>();
+
+	private String name;
+	private String input;
+	private boolean lean;
+	private final Map<String, Object> data = new HashMap<>();
+
+	private ScenarioContext() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o contexto do cenário da thread atual.
+	 * Fora de um cenário um contexto vazio é criado e o acesso é registrado no
+	 * log.
+	 *
+	 * @return {@link ScenarioContext ScenarioContext}
+	 */
+	public static ScenarioContext get() {
+		ScenarioContext context = threadContext.get();
+		if (context == null) {
+			log.warn(String.format("Método: get() - Contexto acessado fora de um cenário na thread %s, utilizando um contexto vazio.", Thread.currentThread().getName()));
+			context = new ScenarioContext();
+			threadContext.set(context);
+		}
+		return context;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> descarta o contexto anterior da thread e cria um
+	 * novo para o cenário informado.
+	 *
+	 * @param scenario é o {@link Scenario cenário} que está sendo iniciado.
+	 * @return {@link ScenarioContext ScenarioContext}
+	 */
+	public static ScenarioContext start(Scenario scenario) {
+		ScenarioContext context = new ScenarioContext();
+		context.name = scenario.getName();
+		threadContext.set(context);
+		return context;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> descarta o contexto do cenário encerrado na thread
+	 * atual.
+	 */
+	public static void end() {
+		threadContext.remove();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getInput() {
+		return input;
+	}
+
+	public void setInput(String input) {
+		this.input = input;
+	}
+
+	public boolean isLean() {
+		return lean;
+	}
+
+	public void setLean(boolean lean) {
+		this.lean = lean;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key) {
+		return (T) data.get(key);
+	}
+
+	public void set(String key, Object value) {
+		data.put(key, value);
+	}
+}
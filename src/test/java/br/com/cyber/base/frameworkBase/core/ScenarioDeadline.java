@@ -0,0 +1,117 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.time.Duration;
+
+import org.openqa.selenium.TimeoutException;
+
+import io.cucumber.core.api.Scenario;
+
+/**
+ * <p>
+ * Orçamento de tempo do <i>cenário</i> e de cada <i>passo</i> em execução.
+ * <p>
+ * O orçamento do cenário é definido pela tag <i>@budget=segundos</i> ou por
+ * {@link Properties#SCENARIO_BUDGET_SECONDS SCENARIO_BUDGET_SECONDS} e o de
+ * cada passo pela tag <i>@stepBudget=segundos</i> ou por
+ * {@link Properties#STEP_BUDGET_SECONDS STEP_BUDGET_SECONDS}, sendo <i>0</i>
+ * sem limite. Enquanto um passo está em execução, as esperas do framework e os
+ * comandos enviados ao navegador utilizam no máximo o tempo restante e falham
+ * imediatamente quando o orçamento se esgota. Os hooks não são limitados, para
+ * que evidências e o encerramento do navegador sempre aconteçam.
+ *
+ * @see br.com.cyber.base.frameworkBase.execute.hooks.HookBefore
+ */
+public class ScenarioDeadline {
+
+	private static final ThreadLocal<ScenarioDeadline> threadDeadline = ThreadLocal.withInitial(ScenarioDeadline::new);
+
+	private long scenarioDeadline;
+	private long stepBudgetNanos;
+	private long stepDeadline;
+	private boolean armed;
+
+	private ScenarioDeadline() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> inicia o orçamento do cenário a partir das tags ou
+	 * das {@link Properties Properties}.
+	 *
+	 * @param scenario é o {@link Scenario cenário} que está sendo iniciado.
+	 */
+	public static void start(Scenario scenario) {
+		ScenarioDeadline deadline = new ScenarioDeadline();
+		long scenarioBudget = tag(scenario, "@budget=", Properties.SCENARIO_BUDGET_SECONDS);
+		long stepBudget = tag(scenario, "@stepBudget=", Properties.STEP_BUDGET_SECONDS);
+		deadline.scenarioDeadline = scenarioBudget > 0 ? System.nanoTime() + Duration.ofSeconds(scenarioBudget).toNanos() : 0;
+		deadline.stepBudgetNanos = Duration.ofSeconds(stepBudget).toNanos();
+		threadDeadline.set(deadline);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> passa a limitar esperas e comandos da thread pelo
+	 * orçamento, iniciando o orçamento do passo.
+	 */
+	public static void startStep() {
+		ScenarioDeadline deadline = threadDeadline.get();
+		deadline.stepDeadline = deadline.stepBudgetNanos > 0 ? System.nanoTime() + deadline.stepBudgetNanos : 0;
+		deadline.armed = true;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> deixa de limitar esperas e comandos da thread.
+	 */
+	public static void endStep() {
+		threadDeadline.get().armed = false;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o tempo restante do orçamento.
+	 *
+	 * @return a {@link Duration duração} restante ou <i>null</i> quando não há
+	 *         orçamento em vigor.
+	 */
+	public static Duration remaining() {
+		ScenarioDeadline deadline = threadDeadline.get();
+		if (!deadline.armed || (deadline.scenarioDeadline == 0 && deadline.stepDeadline == 0))
+			return null;
+		long end = deadline.scenarioDeadline == 0 ? deadline.stepDeadline
+				: deadline.stepDeadline == 0 ? deadline.scenarioDeadline
+				: Math.min(deadline.scenarioDeadline, deadline.stepDeadline);
+		return Duration.ofNanos(end - System.nanoTime());
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> limita a duração solicitada ao tempo restante do
+	 * orçamento.
+	 *
+	 * @param requested é a {@link Duration duração} solicitada.
+	 * @return a menor duração entre a solicitada e a restante.
+	 * @throws TimeoutException caso o orçamento já tenha se esgotado.
+	 */
+	public static Duration bound(Duration requested) {
+		Duration remaining = remaining();
+		if (remaining == null)
+			return requested;
+		if (remaining.isNegative() || remaining.isZero())
+			throw new TimeoutException("O orçamento de tempo do cenário ou do passo se esgotou.");
+		return remaining.compareTo(requested) < 0 ? remaining : requested;
+	}
+
+	private static long tag(Scenario scenario, String prefix, long fallback) {
+		for (String tag : scenario.getSourceTagNames()) {
+			if (tag.startsWith(prefix)) {
+				try {
+					return Long.parseLong(tag.substring(prefix.length()));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException(String.format("A tag %s deve informar a quantidade de segundos.", tag), e);
+				}
+			}
+		}
+		return fallback;
+	}
+}
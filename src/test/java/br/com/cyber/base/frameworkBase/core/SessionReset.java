@@ -0,0 +1,97 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Reinicialização leve da sessão do navegador entre cenários.
+ * <p>
+ * Ao invés de encerrar o navegador, limpa cookies, localStorage,
+ * sessionStorage e guias extras, volta ao frame principal e navega para
+ * <i>about:blank</i>. Caso a limpeza falhe ou o navegador já tenha sido
+ * reaproveitado {@link Properties#REUSE_LIMIT REUSE_LIMIT} vezes, o navegador
+ * deve ser encerrado normalmente.
+ *
+ * @see DriverFactory#killDriver()
+ * @see DriverPool#release(WebDriver)
+ */
+public class SessionReset {
+
+	private static final Logger log = LoggerFactory.getLogger(SessionReset.class.getSimpleName());
+
+	private static final String CLEAR_STORAGE = "try { window.localStorage.clear(); } catch (e) { }"
+			+ "try { window.sessionStorage.clear(); } catch (e) { }";
+
+	private static final Map<WebDriver, AtomicInteger> reuses = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private SessionReset() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> tenta preparar o navegador para o próximo cenário.
+	 *
+	 * @param driver é o {@link WebDriver navegador} do cenário encerrado.
+	 * @return {@link Boolean true} caso o navegador possa ser reaproveitado ou
+	 *         {@link Boolean false} caso deva ser encerrado.
+	 */
+	public static boolean reuse(WebDriver driver) {
+		if (!Properties.REUSE || driver == null)
+			return false;
+
+		int count = reuses.computeIfAbsent(driver, d -> new AtomicInteger()).incrementAndGet();
+		if (count > Properties.REUSE_LIMIT) {
+			log.info(String.format("Método: reuse() - Limite de %d reaproveitamentos atingido, reiniciando o navegador.", Properties.REUSE_LIMIT));
+			reuses.remove(driver);
+			return false;
+		}
+
+		if (reset(driver)) {
+			log.info(String.format("Método: reuse() - Sessão reinicializada (%d/%d).", count, Properties.REUSE_LIMIT));
+			return true;
+		}
+		reuses.remove(driver);
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> limpa o estado do navegador sem encerrá-lo.
+	 *
+	 * @param driver é o {@link WebDriver navegador} a ser limpo.
+	 * @return {@link Boolean true} caso a limpeza tenha sido concluída.
+	 */
+	public static boolean reset(WebDriver driver) {
+		try {
+			String main = driver.getWindowHandles().iterator().next();
+			for (String handle : driver.getWindowHandles()) {
+				if (!handle.equals(main)) {
+					driver.switchTo().window(handle);
+					clear(driver);
+					driver.close();
+				}
+			}
+			driver.switchTo().window(main);
+			driver.switchTo().defaultContent();
+			clear(driver);
+			driver.get("about:blank");
+			return true;
+
+		} catch (Exception e) {
+			log.warn(String.format("Método: reset() - Falha ao reinicializar a sessão: %s", e.getMessage()));
+			return false;
+		}
+	}
+
+	private static void clear(WebDriver driver) {
+		((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+		driver.manage().deleteAllCookies();
+	}
+}
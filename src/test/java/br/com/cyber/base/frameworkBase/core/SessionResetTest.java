@@ -0,0 +1,89 @@
+package br.com.cyber.base.frameworkBase.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * <p>
+ * Verifica o isolamento entre cenários garantido pelo {@link SessionReset
+ * SessionReset}. O teste é ignorado quando não é possível iniciar um navegador
+ * na máquina.
+ */
+public class SessionResetTest {
+
+	private static final byte[] PAGE = "<html><body>frameworkBase</body></html>".getBytes(StandardCharsets.UTF_8);
+
+	private HttpServer server;
+	private WebDriver driver;
+	private String url;
+
+	@BeforeClass
+	public void iniciar() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			exchange.sendResponseHeaders(200, PAGE.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(PAGE);
+			}
+		});
+		server.start();
+		url = String.format("http://127.0.0.1:%d/", server.getAddress().getPort());
+
+		try {
+			driver = Properties.BROWSER.newDriver(true, false);
+		} catch (Exception e) {
+			throw new SkipException("Nenhum navegador disponível para o teste.", e);
+		}
+	}
+
+	@AfterClass(alwaysRun = true)
+	public void encerrar() {
+		if (driver != null)
+			driver.quit();
+		if (server != null)
+			server.stop(0);
+	}
+
+	@Test
+	public void reuseRemoveEstadoDoCenarioAnterior() {
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		driver.get(url);
+		driver.manage().addCookie(new Cookie("sessao", "cenario-anterior"));
+		js.executeScript("window.localStorage.setItem('chave', 'local');"
+				+ "window.sessionStorage.setItem('chave', 'sessao');"
+				+ "window.open(arguments[0], '_blank');", url);
+		assertEquals(driver.getWindowHandles().size(), 2);
+
+		boolean reuse = Properties.REUSE;
+		Properties.REUSE = true;
+		try {
+			assertTrue(SessionReset.reuse(driver));
+		} finally {
+			Properties.REUSE = reuse;
+		}
+
+		assertEquals(driver.getWindowHandles().size(), 1);
+		assertEquals(driver.getCurrentUrl(), "about:blank");
+
+		driver.get(url);
+		assertTrue(driver.manage().getCookies().isEmpty());
+		assertNull(js.executeScript("return window.localStorage.getItem('chave');"));
+		assertNull(js.executeScript("return window.sessionStorage.getItem('chave');"));
+	}
+}
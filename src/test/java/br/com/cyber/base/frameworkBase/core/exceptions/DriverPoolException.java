@@ -0,0 +1,46 @@
+package br.com.cyber.base.frameworkBase.core.exceptions;
+
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
+import br.com.cyber.base.frameworkBase.core.utils.Utils;
+
+public class DriverPoolException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public DriverPoolException(String message) {
+		super(String.format("%s - %s", Utils.formatter(), message));
+	}
+
+	public DriverPoolException(String message, Throwable cause) {
+		super(String.format("%s - %s", Utils.formatter(), message), cause);
+	}
+		
+	@Override
+	public String toString() {
+	
+		return 
+		"============================ ERRO ============================"
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ this.getClass().getSimpleName() + ": " + getMessage()
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "====================== MASSA UTILIZADA ======================"
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ ScenarioContext.get().getInput()
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "=========================== DICAS ==========================="
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "Verifique se POOL_MAX comporta a quantidade de threads da execução."
+		+ System.lineSeparator()
+		+ "Verifique se POOL_LEASE_SECONDS é suficiente para iniciar um navegador nesta máquina."
+		+ System.lineSeparator()
+		+ "Verifique no log do DriverPool se os navegadores estão falhando ao iniciar."
+		+ System.lineSeparator()
+		;
+	}
+	
+}
@@ -1,15 +1,18 @@
 package br.com.cyber.base.frameworkBase.core.exceptions;
 
-import br.com.cyber.base.frameworkBase.core.utils.InputDeDados;
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
 import br.com.cyber.base.frameworkBase.core.utils.Utils;
 
 public class GridException extends RuntimeException{
 
 	private static final long serialVersionUID = 1L;
-	private String message;
 	
 	public GridException(String message) {
-		this.message = String.format("%s - %s", Utils.formatter(), message);
+		super(String.format("%s - %s", Utils.formatter(), message));
+	}
+
+	public GridException(String message, Throwable cause) {
+		super(String.format("%s - %s", Utils.formatter(), message), cause);
 	}
 		
 	@Override
@@ -19,13 +22,13 @@ public class GridException extends RuntimeException{
 		"============================ ERRO ============================"
 		+ System.lineSeparator()
 		+ System.lineSeparator()
-		+ this.getClass().getSimpleName() + ": " + message
+		+ this.getClass().getSimpleName() + ": " + getMessage()
 		+ System.lineSeparator()
 		+ System.lineSeparator()
 		+ "====================== MASSA UTILIZADA ======================"
 		+ System.lineSeparator()
 		+ System.lineSeparator()
-		+ InputDeDados.getInput()
+		+ ScenarioContext.get().getInput()
 		+ System.lineSeparator()
 		+ System.lineSeparator()
 		+ "=========================== DICAS ==========================="
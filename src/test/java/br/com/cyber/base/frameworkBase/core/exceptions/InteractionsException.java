@@ -1,7 +1,7 @@
 package br.com.cyber.base.frameworkBase.core.exceptions;
 
 
-import br.com.cyber.base.frameworkBase.core.utils.InputDeDados;
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
 import br.com.cyber.base.frameworkBase.core.interaction.Interactions;
 import br.com.cyber.base.frameworkBase.core.utils.Utils;
 
@@ -35,7 +35,7 @@ public class InteractionsException extends RuntimeException {
 		+ "====================== MASSA UTILIZADA ======================"
 		+ System.lineSeparator()
 		+ System.lineSeparator()
-		+ InputDeDados.getInput()
+		+ ScenarioContext.get().getInput()
 		+ System.lineSeparator()
 		+ System.lineSeparator()
 		+ "=========================== DICAS ==========================="
@@ -0,0 +1,137 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Cache dos elementos já localizados na página atual, compartilhado por todas
+ * as {@link Interactions Interactions} da thread.
+ * <p>
+ * Os elementos são indexados pelo {@link By seletor}. Um elemento em cache é
+ * utilizado diretamente e, caso a ação resulte em
+ * {@link StaleElementReferenceException}, ele é localizado novamente e a ação
+ * repetida uma única vez. A repetição só é segura para ações de um único
+ * comando ou que começam restaurando o estado do elemento, como
+ * <i>clear</i> seguido de <i>sendKeys</i>. Ações de vários passos, como a
+ * digitação tecla a tecla, utilizam {@link #acceptOnce(By, Consumer)}, que não
+ * repete a ação. O cache é descartado em navegações, trocas de frame ou de
+ * guia e quando o navegador da thread muda.
+ *
+ * @see Interactions
+ */
+public final class ElementCache {
+
+	private static final ThreadLocal<ElementCache> threadCache = ThreadLocal.withInitial(ElementCache::new);
+
+	private WebDriver driver;
+	private final Map<By, WebElement> elements = new HashMap<>();
+
+	private ElementCache() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> armazena um elemento já localizado, por exemplo pela
+	 * espera de {@link br.com.cyber.base.frameworkBase.core.interaction.interfaces.IAwait
+	 * IAwait}.
+	 *
+	 * @param by      é o {@link By seletor} do elemento.
+	 * @param element é o {@link WebElement elemento} localizado.
+	 */
+	public static void put(By by, WebElement element) {
+		if (element != null)
+			current().elements.put(by, element);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> executa a ação no elemento do seletor, localizando-o
+	 * apenas se ele não estiver em cache ou não estiver mais na DOM.
+	 *
+	 * @param by     é o {@link By seletor} do elemento.
+	 * @param action é a {@link Function ação} a ser executada.
+	 * @return o retorno da ação.
+	 */
+	public static <T> T apply(By by, Function<WebElement, T> action) {
+		ElementCache cache = current();
+		WebElement cached = cache.elements.get(by);
+		if (cached != null) {
+			try {
+				return action.apply(cached);
+			} catch (StaleElementReferenceException e) {
+				cache.elements.remove(by);
+			}
+		}
+		WebElement element = cache.driver.findElement(LocatorCompiler.compile(by));
+		cache.elements.put(by, element);
+		return action.apply(element);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> executa a ação sem retorno no elemento do seletor.
+	 *
+	 * @param by     é o {@link By seletor} do elemento.
+	 * @param action é a {@link Consumer ação} a ser executada.
+	 * @see #apply(By, Function)
+	 */
+	public static void accept(By by, Consumer<WebElement> action) {
+		apply(by, element -> {
+			action.accept(element);
+			return null;
+		});
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> executa uma ação de vários passos no elemento do
+	 * seletor sem repeti-la. Caso o elemento deixe a DOM durante a ação, ele é
+	 * removido do cache e a {@link StaleElementReferenceException} é propagada,
+	 * evitando que teclas já enviadas sejam digitadas novamente.
+	 *
+	 * @param by     é o {@link By seletor} do elemento.
+	 * @param action é a {@link Consumer ação} a ser executada.
+	 * @throws StaleElementReferenceException caso o elemento deixe a DOM.
+	 */
+	public static void acceptOnce(By by, Consumer<WebElement> action) {
+		ElementCache cache = current();
+		WebElement element = cache.elements.get(by);
+		if (element == null) {
+			element = cache.driver.findElement(LocatorCompiler.compile(by));
+			cache.elements.put(by, element);
+		}
+		try {
+			action.accept(element);
+		} catch (StaleElementReferenceException e) {
+			cache.elements.remove(by);
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> descarta todos os elementos em cache da thread.
+	 */
+	public static void invalidate() {
+		threadCache.get().elements.clear();
+	}
+
+	private static ElementCache current() {
+		ElementCache cache = threadCache.get();
+		WebDriver driver = DriverFactory.getDriver();
+		if (cache.driver != driver) {
+			cache.elements.clear();
+			cache.driver = driver;
+		}
+		return cache;
+	}
+}
@@ -0,0 +1,250 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.Properties;
+import br.com.cyber.base.frameworkBase.core.ScenarioDeadline;
+
+/**
+ * <p>
+ * Histórico do tempo de carregamento de cada elemento, utilizado para calibrar
+ * as esperas do {@link br.com.cyber.base.frameworkBase.core.interaction.interfaces.IAwait
+ * IAwait}.
+ * <p>
+ * As últimas {@link Properties#LATENCY_SAMPLES LATENCY_SAMPLES} medições de
+ * cada elemento, identificado pelo nome e pelo {@link By seletor}, são
+ * persistidas em {@link Properties#LATENCY_STORE LATENCY_STORE} ao final da
+ * execução. Com ao menos {@link Properties#LATENCY_MIN_SAMPLES
+ * LATENCY_MIN_SAMPLES} medições, o tempo de espera passa a ser o percentil 99
+ * multiplicado por {@link Properties#LATENCY_FACTOR LATENCY_FACTOR}, limitado
+ * entre {@link Properties#LATENCY_MIN_TIMEOUT_SECONDS
+ * LATENCY_MIN_TIMEOUT_SECONDS} e {@link Properties#LATENCY_MAX_TIMEOUT_SECONDS
+ * LATENCY_MAX_TIMEOUT_SECONDS}. Esperas que excedem o tempo também são
+ * registradas, para que um elemento que ficou mais lento receba mais tempo nas
+ * próximas execuções. As medições são sempre registradas, mas a calibração só
+ * é aplicada com {@link Properties#LATENCY_ADAPTIVE LATENCY_ADAPTIVE} ativo.
+ */
+public final class ElementLatencies {
+
+	private static final Logger log = LoggerFactory.getLogger(ElementLatencies.class.getSimpleName());
+
+	private static final long MIN_POLLING_MILLIS = 50;
+	private static final Duration BUDGET_MARGIN = Duration.ofSeconds(1);
+
+	private static final Map<String, Samples> samples = load();
+	private static final Map<String, Samples> recorded = new ConcurrentHashMap<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(ElementLatencies::store, "element-latencies-store"));
+	}
+
+	private ElementLatencies() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra quanto tempo o elemento levou para ficar
+	 * disponível, ou o tempo aguardado em vão.
+	 *
+	 * @param description é o {@link String nome} do elemento.
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param elapsed     é a {@link Duration duração} da espera.
+	 */
+	public static void record(String description, By by, Duration elapsed) {
+		String key = key(description, by);
+		samples.computeIfAbsent(key, k -> new Samples()).add(elapsed.toMillis());
+		recorded.computeIfAbsent(key, k -> new Samples()).add(elapsed.toMillis());
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra uma espera que excedeu o tempo. Esperas
+	 * interrompidas pelo {@link ScenarioDeadline orçamento do cenário} não são
+	 * registradas, pois não refletem o tempo de carregamento do elemento.
+	 *
+	 * @param description é o {@link String nome} do elemento.
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param elapsed     é a {@link Duration duração} da espera.
+	 */
+	public static void recordTimeout(String description, By by, Duration elapsed) {
+		Duration remaining = ScenarioDeadline.remaining();
+		if (remaining == null || remaining.compareTo(BUDGET_MARGIN) > 0)
+			record(description, by, elapsed);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> calcula o tempo de espera do elemento a partir do
+	 * histórico.
+	 *
+	 * @param description é o {@link String nome} do elemento.
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param fallback    é a {@link Duration duração} utilizada enquanto não houver
+	 *                    histórico suficiente.
+	 * @return {@link Duration Duration}
+	 */
+	public static Duration timeout(String description, By by, Duration fallback) {
+		Samples history = history(description, by);
+		if (history == null)
+			return fallback;
+		long millis = (long) (history.percentile(0.99) * Properties.LATENCY_FACTOR);
+		long min = Duration.ofSeconds(Properties.LATENCY_MIN_TIMEOUT_SECONDS).toMillis();
+		long max = Duration.ofSeconds(Properties.LATENCY_MAX_TIMEOUT_SECONDS).toMillis();
+		return Duration.ofMillis(Math.max(min, Math.min(max, millis)));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> calcula o intervalo entre tentativas da espera por
+	 * intervalos a partir do histórico, como um quarto da mediana.
+	 *
+	 * @param description é o {@link String nome} do elemento.
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param fallback    é a {@link Duration duração} utilizada enquanto não houver
+	 *                    histórico suficiente, também usada como limite máximo.
+	 * @return {@link Duration Duration}
+	 */
+	public static Duration polling(String description, By by, Duration fallback) {
+		Samples history = history(description, by);
+		if (history == null)
+			return fallback;
+		long millis = history.percentile(0.5) / 4;
+		return Duration.ofMillis(Math.max(MIN_POLLING_MILLIS, Math.min(fallback.toMillis(), millis)));
+	}
+
+	private static Samples history(String description, By by) {
+		if (!Properties.LATENCY_ADAPTIVE)
+			return null;
+		Samples history = samples.get(key(description, by));
+		return history != null && history.size() >= Math.max(1, Properties.LATENCY_MIN_SAMPLES) ? history : null;
+	}
+
+	private static String key(String description, By by) {
+		return description + " | " + by;
+	}
+
+	private static File storeFile() {
+		return new File(Properties.LATENCY_STORE);
+	}
+
+	private static Map<String, Samples> load() {
+		Map<String, Samples> loaded = new ConcurrentHashMap<>();
+		java.util.Properties store = read();
+		store.stringPropertyNames().forEach(key -> loaded.put(key, Samples.parse(store.getProperty(key))));
+		return loaded;
+	}
+
+	private static java.util.Properties read() {
+		java.util.Properties store = new java.util.Properties();
+		if (storeFile().exists()) {
+			try (InputStream in = new FileInputStream(storeFile())) {
+				store.load(in);
+			} catch (IOException e) {
+				log.warn(String.format("Método: load() - Falha ao ler o histórico de latências: %s", e.getMessage()));
+			}
+		}
+		return store;
+	}
+
+	/**
+	 * Execuções paralelas, como os forks do surefire, gravam o mesmo arquivo. A
+	 * gravação acontece sob um {@link FileLock FileLock}, acrescenta apenas as
+	 * medições desta JVM ao histórico atual do arquivo e substitui o arquivo por
+	 * uma renomeação atômica.
+	 */
+	private static synchronized void store() {
+		if (recorded.isEmpty())
+			return;
+		File file = storeFile().getAbsoluteFile();
+		file.getParentFile().mkdirs();
+		try (FileChannel channel = FileChannel.open(new File(file.getPath() + ".lock").toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock lock = channel.lock()) {
+			java.util.Properties store = read();
+			recorded.forEach((key, history) -> {
+				Samples merged = Samples.parse(store.getProperty(key, ""));
+				for (long sample : history.values())
+					merged.add(sample);
+				store.setProperty(key, merged.toString());
+			});
+
+			File temp = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+			try (OutputStream out = new FileOutputStream(temp)) {
+				store.store(out, "Latências dos elementos registradas pelo frameworkBase (ms)");
+				out.close();
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp.toPath());
+			}
+			recorded.clear();
+		} catch (IOException e) {
+			log.warn(String.format("Método: store() - Falha ao gravar o histórico de latências: %s", e.getMessage()));
+		}
+	}
+
+	static class Samples {
+
+		private final long[] values = new long[Math.max(1, Properties.LATENCY_SAMPLES)];
+		private int count;
+		private int next;
+
+		synchronized void add(long millis) {
+			values[next] = millis;
+			next = (next + 1) % values.length;
+			count = Math.min(count + 1, values.length);
+		}
+
+		synchronized int size() {
+			return count;
+		}
+
+		synchronized long percentile(double percentile) {
+			long[] sorted = Arrays.copyOf(values, count);
+			Arrays.sort(sorted);
+			return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+		}
+
+		static Samples parse(String value) {
+			Samples parsed = new Samples();
+			for (String sample : value.split(",")) {
+				try {
+					parsed.add(Long.parseLong(sample.trim()));
+				} catch (NumberFormatException e) {
+					// Medição inválida no arquivo, ignorada.
+				}
+			}
+			return parsed;
+		}
+
+		/**
+		 * Medições em ordem cronológica.
+		 */
+		synchronized long[] values() {
+			int first = count < values.length ? 0 : next;
+			return IntStream.range(0, count).mapToLong(i -> values[(first + i) % values.length]).toArray();
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.stream(values()).mapToObj(String::valueOf).collect(Collectors.joining(","));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.testng.annotations.Test;
+
+import br.com.cyber.base.frameworkBase.core.Properties;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementLatencies.Samples;
+
+/**
+ * <p>
+ * Verifica o cálculo de percentis e a persistência das medições do
+ * {@link ElementLatencies ElementLatencies}.
+ */
+public class ElementLatenciesTest {
+
+	@Test
+	public void calculaPercentis() {
+		Samples samples = Samples.parse(join(1, 100));
+
+		assertEquals(samples.size(), 100);
+		assertEquals(samples.percentile(0.5), 50);
+		assertEquals(samples.percentile(0.99), 99);
+		assertEquals(samples.percentile(1.0), 100);
+	}
+
+	@Test
+	public void calculaPercentilDeUmaMedicao() {
+		Samples samples = Samples.parse("750");
+
+		assertEquals(samples.percentile(0.5), 750);
+		assertEquals(samples.percentile(0.99), 750);
+	}
+
+	@Test
+	public void mantemAsUltimasMedicoesEmOrdemCronologica() {
+		int capacity = Properties.LATENCY_SAMPLES;
+		Samples samples = Samples.parse(join(1, capacity + 5));
+
+		assertEquals(samples.size(), capacity);
+		assertEquals(samples.values(), LongStream.rangeClosed(6, capacity + 5).toArray());
+		assertEquals(samples.toString(), join(6, capacity + 5));
+	}
+
+	@Test
+	public void ignoraMedicoesInvalidas() {
+		Samples samples = Samples.parse("10, x, ,30");
+
+		assertEquals(samples.size(), 2);
+		assertEquals(samples.toString(), "10,30");
+		assertEquals(Samples.parse("").size(), 0);
+	}
+
+	@Test
+	public void preservaAsMedicoesAoGravarELer() {
+		Samples samples = Samples.parse("300,100,200");
+		samples.add(50);
+
+		assertEquals(Samples.parse(samples.toString()).toString(), "300,100,200,50");
+	}
+
+	private static String join(long from, long to) {
+		return LongStream.rangeClosed(from, to).mapToObj(String::valueOf).collect(Collectors.joining(","));
+	}
+}
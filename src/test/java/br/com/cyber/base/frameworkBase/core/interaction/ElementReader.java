@@ -0,0 +1,147 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Leitura de textos, atributos e propriedades de vários elementos em uma única
+ * chamada ao navegador, utilizada por
+ * {@link Interactions#read(ElementReader, String) Interactions.read}.
+ * <p>
+ * Cada leitura recebe um nome, utilizado como chave no resultado:
+ *
+ * <pre>
+ * interactions.read(new ElementReader()
+ *         .text("nome", divNome)
+ *         .attribute("link", aProduto, "href"), "produto");
+ * </pre>
+ */
+public final class ElementReader {
+
+	private static final String READ = ScriptLocator.FIND
+			+ "var reads = arguments[0], values = [];"
+			+ "for (var i = 0; i < reads.length; i++) {"
+			+ "  var el = find(reads[i][0], reads[i][1]);"
+			+ "  if (!el) return i;"
+			+ "  var value;"
+			+ "  switch (reads[i][2]) {"
+			+ "    case 'text': value = (el.innerText || '').replace(/\\u00a0/g, ' ').trim(); break;"
+			+ "    case 'attribute': value = el.getAttribute(reads[i][3]); break;"
+			+ "    default: value = el[reads[i][3]];"
+			+ "  }"
+			+ "  values.push(value === null || value === undefined ? null : String(value));"
+			+ "}"
+			+ "return values;";
+
+	private final List<String> names = new ArrayList<>();
+	private final List<By> locators = new ArrayList<>();
+	private final List<String[]> reads = new ArrayList<>();
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> adiciona a leitura do texto visível do elemento.
+	 *
+	 * @param name é o {@link String nome} da leitura no resultado.
+	 * @param by   é o {@link By seletor} do elemento.
+	 * @return {@link ElementReader ElementReader}
+	 */
+	public ElementReader text(String name, By by) {
+		return add(name, by, "text", null);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> adiciona a leitura de um atributo HTML do elemento.
+	 *
+	 * @param name      é o {@link String nome} da leitura no resultado.
+	 * @param by        é o {@link By seletor} do elemento.
+	 * @param attribute é o {@link String atributo} a ser lido.
+	 * @return {@link ElementReader ElementReader}
+	 */
+	public ElementReader attribute(String name, By by, String attribute) {
+		return add(name, by, "attribute", attribute);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> adiciona a leitura de uma propriedade DOM do
+	 * elemento, como <i>value</i> ou <i>checked</i>.
+	 *
+	 * @param name     é o {@link String nome} da leitura no resultado.
+	 * @param by       é o {@link By seletor} do elemento.
+	 * @param property é a {@link String propriedade} a ser lida.
+	 * @return {@link ElementReader ElementReader}
+	 */
+	public ElementReader property(String name, By by, String property) {
+		return add(name, by, "property", property);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> executa todas as leituras adicionadas.
+	 *
+	 * @return os valores indexados pelo nome de cada leitura, na ordem em que
+	 *         foram adicionadas.
+	 * @throws NoSuchElementException   caso algum elemento não exista.
+	 * @throws InvalidSelectorException caso algum seletor seja inválido.
+	 */
+	Map<String, String> read() {
+		WebDriver driver = DriverFactory.getDriver();
+		List<Integer> scripted = new ArrayList<>();
+		List<List<String>> payload = new ArrayList<>();
+		for (int i = 0; i < reads.size(); i++) {
+			String[] locator = ScriptLocator.of(locators.get(i));
+			if (locator != null && driver instanceof JavascriptExecutor) {
+				scripted.add(i);
+				payload.add(Arrays.asList(locator[0], locator[1], reads.get(i)[0], reads.get(i)[1]));
+			}
+		}
+
+		String[] values = new String[reads.size()];
+		if (!payload.isEmpty()) {
+			Object result;
+			try {
+				result = ((JavascriptExecutor) driver).executeScript(READ, payload);
+			} catch (JavascriptException e) {
+				throw ScriptLocator.translate(e);
+			}
+			if (result instanceof Number)
+				throw new NoSuchElementException("Unable to locate element: " + locators.get(scripted.get(((Number) result).intValue())));
+			List<?> scriptValues = (List<?>) result;
+			for (int i = 0; i < scripted.size(); i++)
+				values[scripted.get(i)] = (String) scriptValues.get(i);
+		}
+
+		for (int i = 0; i < reads.size(); i++) {
+			if (scripted.contains(i))
+				continue;
+			String[] read = reads.get(i);
+			values[i] = ElementCache.apply(locators.get(i), element -> "text".equals(read[0]) ? element.getText() : element.getAttribute(read[1]));
+		}
+
+		Map<String, String> result = new LinkedHashMap<>();
+		for (int i = 0; i < names.size(); i++)
+			result.put(names.get(i), values[i]);
+		return result;
+	}
+
+	private ElementReader add(String name, By by, String mode, String field) {
+		names.add(name);
+		locators.add(by);
+		reads.add(new String[] { mode, field });
+		return this;
+	}
+}
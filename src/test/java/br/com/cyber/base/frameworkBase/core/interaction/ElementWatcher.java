@@ -0,0 +1,289 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Espera orientada a eventos utilizada pelo
+ * {@link br.com.cyber.base.frameworkBase.core.interaction.interfaces.IAwait
+ * IAwait}.
+ * <p>
+ * Ao invés de consultar o navegador a cada intervalo, instala na página um
+ * <i>MutationObserver</i> através de
+ * {@link JavascriptExecutor#executeAsyncScript(String, Object...)
+ * executeAsyncScript} que devolve o elemento assim que ele se torna clicável.
+ * A espera é dividida em fatias de no máximo
+ * {@link Properties#AWAIT_SLICE_SECONDS AWAIT_SLICE_SECONDS}, mantendo-se
+ * abaixo do <i>script timeout</i> do driver e sobrevivendo a navegações.
+ * Seletores não suportados e drivers sem suporte a scripts assíncronos
+ * utilizam a espera por intervalos informada.
+ */
+public final class ElementWatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(ElementWatcher.class.getSimpleName());
+
+	private static final long RETRY_MILLIS = 100;
+
+	private static final Pattern UNLOAD = Pattern.compile(
+			"unloaded|navigated|execution context was destroyed|target closed|frame was detached", Pattern.CASE_INSENSITIVE);
+
+	private static final String WATCH = ScriptLocator.FIND
+			+ "var locators = arguments[0], timeout = arguments[1], absent = arguments[2];"
+			+ "var done = arguments[arguments.length - 1];"
+			+ "function visible(el) {"
+			+ "  if (!el || el.nodeType !== 1) return false;"
+			+ "  if (!el.getClientRects().length) return false;"
+			+ "  var rect = el.getBoundingClientRect();"
+			+ "  if (rect.width <= 0 && rect.height <= 0) return false;"
+			+ "  var style = window.getComputedStyle(el);"
+			+ "  return style.visibility !== 'hidden' && style.visibility !== 'collapse' && parseFloat(style.opacity) !== 0;"
+			+ "}"
+			+ "var observer, interval, timer, finished = false;"
+			+ "function finish(el) {"
+			+ "  if (finished) return;"
+			+ "  finished = true;"
+			+ "  if (observer) observer.disconnect();"
+			+ "  clearInterval(interval);"
+			+ "  clearTimeout(timer);"
+			+ "  done(el);"
+			+ "}"
+			+ "function check() {"
+			+ "  for (var i = 0; i < locators.length && !finished; i++) {"
+			+ "    var el = find(locators[i][0], locators[i][1]);"
+			+ "    if (absent ? !visible(el) : visible(el) && !el.disabled) finish(absent ? true : [i, el]);"
+			+ "  }"
+			+ "}"
+			+ "check();"
+			+ "if (finished) return;"
+			+ "observer = new MutationObserver(check);"
+			+ "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "interval = setInterval(check, 100);"
+			+ "timer = setTimeout(function () { finish(absent ? false : null); }, timeout);";
+
+	private static final Set<WebDriver> unsupported = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+	private ElementWatcher() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que o elemento esteja clicável,
+	 * retornando-o assim que a página o disponibilizar.
+	 *
+	 * @param by      é o {@link By seletor} do elemento.
+	 * @param timeout é a {@link Duration duração} máxima da espera.
+	 * @param polling é a espera por intervalos utilizada quando o navegador ou o
+	 *                seletor não suportam a observação, recebendo o tempo
+	 *                restante.
+	 * @return o {@link WebElement elemento} clicável.
+	 * @throws TimeoutException caso o elemento não fique clicável a tempo.
+	 */
+	public static WebElement await(By by, Duration timeout, Function<Duration, WebElement> polling) {
+		WebDriver driver = DriverFactory.getDriver();
+		String[] locator = ScriptLocator.of(by);
+		if (!Properties.AWAIT_OBSERVER || locator == null || !(driver instanceof JavascriptExecutor) || unsupported.contains(driver))
+			return polling.apply(timeout);
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long remaining;
+		while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+			long slice = Math.min(remaining, TimeUnit.SECONDS.toMillis(Properties.AWAIT_SLICE_SECONDS));
+			try {
+				Object result = ((JavascriptExecutor) driver).executeAsyncScript(WATCH, Collections.singletonList(Arrays.asList(locator)), slice, false);
+				if (result instanceof List)
+					return (WebElement) ((List<?>) result).get(1);
+
+			} catch (UnsupportedCommandException e) {
+				log.warn("Método: await() - O navegador não suporta scripts assíncronos, utilizando espera por intervalos.");
+				unsupported.add(driver);
+				return polling.apply(Duration.ofMillis(remaining));
+
+			} catch (WebDriverException e) {
+				// A página foi descarregada durante a observação, aguarda a próxima.
+				if (!isUnload(e))
+					throw ScriptLocator.translate(e);
+				pause();
+			}
+		}
+
+		WebElement element = confirm(driver, by);
+		if (element != null)
+			return element;
+		throw new TimeoutException(String.format("Expected condition failed: waiting for element to be clickable: %s (tried for %d second(s) with mutation observer)", by, timeout.getSeconds()));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que o elemento não exista ou não esteja
+	 * visível, sem lançar exceções caso isso não aconteça.
+	 *
+	 * @param by      é o {@link By seletor} do elemento.
+	 * @param timeout é a {@link Duration duração} máxima da espera.
+	 * @return {@link Boolean true} caso o elemento tenha desaparecido a tempo.
+	 */
+	public static boolean awaitAbsent(By by, Duration timeout) {
+		WebDriver driver = DriverFactory.getDriver();
+		String[] locator = ScriptLocator.of(by);
+		boolean observe = Properties.AWAIT_OBSERVER && locator != null && driver instanceof JavascriptExecutor && !unsupported.contains(driver);
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long remaining;
+		while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+			if (!observe) {
+				if (!isVisible(driver, by))
+					return true;
+				pause();
+				continue;
+			}
+			long slice = Math.min(remaining, TimeUnit.SECONDS.toMillis(Properties.AWAIT_SLICE_SECONDS));
+			try {
+				if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(WATCH, Collections.singletonList(Arrays.asList(locator)), slice, true)))
+					return true;
+
+			} catch (UnsupportedCommandException e) {
+				unsupported.add(driver);
+				observe = false;
+
+			} catch (WebDriverException e) {
+				if (!isUnload(e))
+					throw ScriptLocator.translate(e);
+				pause();
+			}
+		}
+		return !isVisible(driver, by);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que um dos elementos esteja clicável,
+	 * retornando o primeiro a ficar disponível.
+	 *
+	 * @param locators são os {@link By seletores} dos elementos candidatos.
+	 * @param timeout  é a {@link Duration duração} máxima da espera.
+	 * @return o {@link By seletor} e o {@link WebElement elemento} encontrado.
+	 * @throws TimeoutException caso nenhum elemento fique clicável a tempo.
+	 */
+	public static Map.Entry<By, WebElement> awaitAny(List<By> locators, Duration timeout) {
+		WebDriver driver = DriverFactory.getDriver();
+		List<List<String>> payload = new ArrayList<>();
+		for (By by : locators) {
+			String[] locator = ScriptLocator.of(by);
+			if (locator != null)
+				payload.add(Arrays.asList(locator));
+		}
+		boolean observe = Properties.AWAIT_OBSERVER && payload.size() == locators.size() && driver instanceof JavascriptExecutor && !unsupported.contains(driver);
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long remaining;
+		while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+			if (!observe) {
+				Map.Entry<By, WebElement> match = firstClickable(driver, locators);
+				if (match != null)
+					return match;
+				pause();
+				continue;
+			}
+			long slice = Math.min(remaining, TimeUnit.SECONDS.toMillis(Properties.AWAIT_SLICE_SECONDS));
+			try {
+				Object result = ((JavascriptExecutor) driver).executeAsyncScript(WATCH, payload, slice, false);
+				if (result instanceof List) {
+					List<?> match = (List<?>) result;
+					return new AbstractMap.SimpleImmutableEntry<>(locators.get(((Number) match.get(0)).intValue()), (WebElement) match.get(1));
+				}
+
+			} catch (UnsupportedCommandException e) {
+				log.warn("Método: awaitAny() - O navegador não suporta scripts assíncronos, utilizando espera por intervalos.");
+				unsupported.add(driver);
+				observe = false;
+
+			} catch (WebDriverException e) {
+				if (!isUnload(e))
+					throw ScriptLocator.translate(e);
+				pause();
+			}
+		}
+
+		Map.Entry<By, WebElement> match = firstClickable(driver, locators);
+		if (match != null)
+			return match;
+		throw new TimeoutException(String.format("Expected condition failed: waiting for any element to be clickable: %s (tried for %d second(s))", locators, timeout.getSeconds()));
+	}
+
+	private static Map.Entry<By, WebElement> firstClickable(WebDriver driver, List<By> locators) {
+		for (By by : locators) {
+			WebElement element = confirm(driver, by);
+			if (element != null)
+				return new AbstractMap.SimpleImmutableEntry<>(by, element);
+		}
+		return null;
+	}
+
+	private static boolean isVisible(WebDriver driver, By by) {
+		List<WebElement> elements = driver.findElements(LocatorCompiler.compile(by));
+		try {
+			return !elements.isEmpty() && elements.get(0).isDisplayed();
+		} catch (StaleElementReferenceException e) {
+			return false;
+		}
+	}
+
+	private static WebElement confirm(WebDriver driver, By by) {
+		try {
+			return ExpectedConditions.elementToBeClickable(LocatorCompiler.compile(by)).apply(driver);
+		} catch (NoSuchElementException | StaleElementReferenceException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Somente a descarga da página durante a observação é aguardada. Seletores
+	 * inválidos, sessões encerradas e demais falhas são propagados para o
+	 * tratamento do {@link br.com.cyber.base.frameworkBase.core.interaction.interfaces.IAwait
+	 * IAwait}.
+	 */
+	private static boolean isUnload(WebDriverException e) {
+		if (e instanceof NoSuchWindowException)
+			return true;
+		if (!(e instanceof JavascriptException) && e.getClass() != WebDriverException.class)
+			return false;
+		String message = e.getMessage();
+		return message != null && UNLOAD.matcher(message).find();
+	}
+
+	private static void pause() {
+		try {
+			Thread.sleep(RETRY_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException("A thread foi interrompida enquanto aguardava o elemento.");
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Preenchimento de formulários em uma única chamada ao navegador, utilizado
+ * por {@link Interactions#fillForm(Map, Collection, String)
+ * Interactions.fillForm}.
+ * <p>
+ * Cada campo recebe o valor através do <i>setter</i> nativo do elemento, para
+ * que frameworks como React percebam a alteração, seguido dos eventos
+ * <i>input</i> e <i>change</i>. Campos que dependem de eventos de teclado ou
+ * com seletores não suportados na página são digitados com
+ * {@link org.openqa.selenium.WebElement#sendKeys(CharSequence...) sendKeys}.
+ * <p>
+ * Os campos são preenchidos na ordem do mapa. Campos consecutivos preenchidos
+ * por script são enviados juntos em uma chamada, e cada campo digitado
+ * interrompe o lote, para que os eventos de teclado que alteram os campos
+ * seguintes, como um CEP que preenche o endereço, aconteçam antes deles.
+ */
+public final class FormFiller {
+
+	private static final String FILL = ScriptLocator.FIND
+			+ "var fields = arguments[0];"
+			+ "for (var i = 0; i < fields.length; i++) {"
+			+ "  var el = find(fields[i][0], fields[i][1]), text = fields[i][2];"
+			+ "  if (!el) return [i, 'missing'];"
+			+ "  if (el.disabled || el.readOnly) return [i, 'disabled'];"
+			+ "  el.focus();"
+			+ "  if (el.isContentEditable) {"
+			+ "    el.textContent = text;"
+			+ "  } else {"
+			+ "    var proto = Object.getPrototypeOf(el), descriptor;"
+			+ "    while (proto && !(descriptor = Object.getOwnPropertyDescriptor(proto, 'value'))) proto = Object.getPrototypeOf(proto);"
+			+ "    if (descriptor && descriptor.set) descriptor.set.call(el, text); else el.value = text;"
+			+ "  }"
+			+ "  el.dispatchEvent(new Event('input', { bubbles: true }));"
+			+ "  el.dispatchEvent(new Event('change', { bubbles: true }));"
+			+ "}"
+			+ "return null;";
+
+	private FormFiller() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> preenche os campos informados, substituindo o valor
+	 * atual de cada um.
+	 *
+	 * @param fields são os valores indexados pelo {@link By seletor} de cada
+	 *               campo, preenchidos na ordem de iteração do {@link Map mapa}
+	 *               e interrompidos no primeiro campo com falha.
+	 * @param typed  são os campos que devem ser digitados com <i>sendKeys</i>.
+	 * @throws NoSuchElementException          caso algum campo não exista.
+	 * @throws ElementNotInteractableException caso algum campo esteja desabilitado
+	 *                                         ou somente leitura.
+	 * @throws InvalidSelectorException       caso algum seletor seja inválido.
+	 */
+	public static void fill(Map<By, String> fields, Collection<By> typed) {
+		WebDriver driver = DriverFactory.getDriver();
+		List<By> scripted = new ArrayList<>();
+		List<List<String>> payload = new ArrayList<>();
+
+		for (Map.Entry<By, String> field : fields.entrySet()) {
+			String[] locator = ScriptLocator.of(field.getKey());
+			if (locator == null || typed.contains(field.getKey()) || !(driver instanceof JavascriptExecutor)) {
+				flush(driver, scripted, payload);
+				type(field.getKey(), field.getValue());
+			} else {
+				scripted.add(field.getKey());
+				payload.add(Arrays.asList(locator[0], locator[1], field.getValue()));
+			}
+		}
+		flush(driver, scripted, payload);
+	}
+
+	private static void flush(WebDriver driver, List<By> scripted, List<List<String>> payload) {
+		if (payload.isEmpty())
+			return;
+		List<?> error;
+		try {
+			error = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL, payload);
+		} catch (JavascriptException e) {
+			throw ScriptLocator.translate(e);
+		}
+		if (error != null) {
+			By by = scripted.get(((Number) error.get(0)).intValue());
+			if ("missing".equals(error.get(1)))
+				throw new NoSuchElementException("Unable to locate element: " + by);
+			throw new ElementNotInteractableException("element not interactable: " + by);
+		}
+		scripted.clear();
+		payload.clear();
+	}
+
+	private static void type(By by, String text) {
+		// a ação começa pelo clear, então repeti-la em um elemento recriado não duplica o texto
+		ElementCache.accept(by, element -> {
+			element.clear();
+			element.sendKeys(text);
+		});
+	}
+}
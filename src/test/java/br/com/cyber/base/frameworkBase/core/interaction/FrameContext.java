@@ -0,0 +1,108 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Caminho de frames em que o navegador da thread se encontra, mantido pelas
+ * {@link Interactions Interactions} para evitar trocas de frame redundantes.
+ * <p>
+ * O caminho é vazio no conteúdo principal e cada entrada identifica um frame
+ * a partir do anterior. Navegações e trocas de guia voltam o caminho ao
+ * conteúdo principal e ações que podem navegar, como cliques, tornam
+ * desconhecido o caminho dentro de um frame. Quando o contexto não é conhecido, como em um navegador
+ * recém entregue ou após uma falha, o caminho fica indefinido e a próxima troca
+ * é sempre enviada ao navegador.
+ */
+public final class FrameContext {
+
+	private static final ThreadLocal<FrameContext> threadContext = ThreadLocal.withInitial(FrameContext::new);
+
+	private WebDriver driver;
+	private List<String> path;
+
+	private FrameContext() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o caminho de frames atual.
+	 *
+	 * @return o caminho ou <i>null</i> caso o contexto não seja conhecido.
+	 */
+	public static List<String> path() {
+		List<String> path = current().path;
+		return path == null ? null : Collections.unmodifiableList(path);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> verifica se o navegador está sabidamente no
+	 * conteúdo principal.
+	 *
+	 * @return {@link Boolean true} caso a troca para o conteúdo principal seja
+	 *         desnecessária.
+	 */
+	public static boolean isTop() {
+		List<String> path = current().path;
+		return path != null && path.isEmpty();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra que o navegador está no conteúdo principal.
+	 */
+	public static void top() {
+		current().path = new ArrayList<>();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra a entrada em um frame a partir do contexto
+	 * atual.
+	 *
+	 * @param frame é a identificação do frame.
+	 */
+	public static void enter(String frame) {
+		FrameContext context = current();
+		if (context.path != null)
+			context.path.add(frame);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra uma ação que pode navegar a página, como
+	 * um clique, uma digitação ou o envio de um formulário. Uma navegação da
+	 * página principal feita de dentro de um frame leva o navegador de volta ao
+	 * conteúdo principal, por isso dentro de um frame o caminho deixa de ser
+	 * conhecido. No conteúdo principal nada muda.
+	 */
+	public static void navigating() {
+		FrameContext context = current();
+		if (context.path != null && !context.path.isEmpty())
+			context.path = null;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> descarta o contexto conhecido da thread.
+	 */
+	public static void reset() {
+		threadContext.get().path = null;
+	}
+
+	private static FrameContext current() {
+		FrameContext context = threadContext.get();
+		WebDriver driver = DriverFactory.getDriver();
+		if (context.driver != driver) {
+			context.driver = driver;
+			context.path = null;
+		}
+		return context;
+	}
+}
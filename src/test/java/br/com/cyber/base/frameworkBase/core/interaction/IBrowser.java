@@ -12,7 +12,6 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,7 +51,9 @@ public interface IBrowser {
 		log.info(String.format("Método: switchTab() - Trocando para a guia %s.", tab.toString()));
 		ArrayList<String> tabs = new ArrayList<String>(DriverFactory.getDriver().getWindowHandles());
 		tabs.forEach(t -> log.info(t));
+		ElementCache.invalidate();
 		DriverFactory.getDriver().switchTo().window(tabs.get(tab));
+		FrameContext.top();
 	}
 	
 	/**
@@ -65,6 +66,8 @@ public interface IBrowser {
 	 */
 	default void closeTab() {
 		log.info("Método: closeTab() - Fechando a guia atual.");
+		ElementCache.invalidate();
+		FrameContext.reset();
 		DriverFactory.getDriver().close();
 	}
 	
@@ -85,8 +88,7 @@ public interface IBrowser {
 		log.info(String.format("Método: scroll() - Descendo a tela até o elemento %s.", description));
 		try {
 			
-			WebElement e = DriverFactory.getDriver().findElement(by);
-			((JavascriptExecutor) DriverFactory.getDriver()).executeScript("arguments[0].scrollIntoView();", e);
+			ElementCache.accept(by, e -> ((JavascriptExecutor) DriverFactory.getDriver()).executeScript("arguments[0].scrollIntoView();", e));
 			
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -0,0 +1,161 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.time.Duration;
+
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Construtor de sequências de teclado e mouse enviadas ao navegador como uma
+ * única requisição <i>W3C Actions</i>.
+ * <p>
+ * Digitação com intervalo entre teclas, teclas repetidas, movimentos e
+ * arrastes são acumulados e executados de uma só vez em {@link #perform()},
+ * ao invés de um comando por tecla ou movimento:
+ *
+ * <pre>
+ * new InputSequence()
+ *         .focus(campo)
+ *         .type("texto", Duration.ofMillis(50))
+ *         .perform();
+ * </pre>
+ */
+public final class InputSequence {
+
+	private final Actions actions;
+
+	public InputSequence() {
+		this(DriverFactory.getDriver());
+	}
+
+	public InputSequence(WebDriver driver) {
+		actions = new Actions(driver);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> clica no elemento para que ele receba as teclas
+	 * seguintes.
+	 *
+	 * @param element é o {@link WebElement elemento} a receber o foco.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence focus(WebElement element) {
+		actions.click(element);
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> digita o texto caractere por caractere, aguardando
+	 * o intervalo informado entre cada tecla.
+	 *
+	 * @param text  é o {@link CharSequence texto} a ser digitado.
+	 * @param delay é o {@link Duration intervalo} entre as teclas.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence type(CharSequence text, Duration delay) {
+		text.codePoints().forEach(codePoint -> {
+			actions.sendKeys(new String(Character.toChars(codePoint)));
+			pause(delay);
+		});
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> pressiona a tecla a quantidade de vezes informada.
+	 *
+	 * @param key   é a {@link Keys tecla} a ser pressionada.
+	 * @param times é a quantidade de repetições.
+	 * @param delay é o {@link Duration intervalo} entre as repetições.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence press(Keys key, int times, Duration delay) {
+		for (int i = 0; i < times; i++) {
+			actions.sendKeys(key);
+			pause(delay);
+		}
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> move o mouse até o centro do elemento.
+	 *
+	 * @param element é o {@link WebElement elemento} de destino.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence moveTo(WebElement element) {
+		actions.moveToElement(element);
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> arrasta o elemento pelo deslocamento informado em
+	 * um único movimento.
+	 *
+	 * @param element é o {@link WebElement elemento} a ser arrastado.
+	 * @param x       é o deslocamento horizontal em pixels.
+	 * @param y       é o deslocamento vertical em pixels.
+	 * @return {@link InputSequence InputSequence}
+	 * @see #drag(WebElement, int, int, int)
+	 */
+	public InputSequence drag(WebElement element, int x, int y) {
+		return drag(element, x, y, 1);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> arrasta o elemento pelo deslocamento informado,
+	 * dividindo o movimento na quantidade de passos informada.
+	 *
+	 * @param element é o {@link WebElement elemento} a ser arrastado.
+	 * @param x       é o deslocamento horizontal em pixels.
+	 * @param y       é o deslocamento vertical em pixels.
+	 * @param steps   é a quantidade de passos do movimento.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence drag(WebElement element, int x, int y, int steps) {
+		actions.moveToElement(element).clickAndHold();
+		int movedX = 0;
+		int movedY = 0;
+		for (int step = 1; step <= Math.max(1, steps); step++) {
+			int targetX = x * step / Math.max(1, steps);
+			int targetY = y * step / Math.max(1, steps);
+			actions.moveByOffset(targetX - movedX, targetY - movedY);
+			movedX = targetX;
+			movedY = targetY;
+		}
+		actions.release();
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda o intervalo informado antes da próxima
+	 * ação da sequência.
+	 *
+	 * @param delay é o {@link Duration intervalo} a ser aguardado.
+	 * @return {@link InputSequence InputSequence}
+	 */
+	public InputSequence pause(Duration delay) {
+		if (!delay.isZero() && !delay.isNegative())
+			actions.pause(delay);
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> envia toda a sequência ao navegador.
+	 */
+	public void perform() {
+		actions.perform();
+	}
+}
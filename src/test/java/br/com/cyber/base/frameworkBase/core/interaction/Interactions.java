@@ -1,19 +1,26 @@
 package br.com.cyber.base.frameworkBase.core.interaction;
 
 import br.com.cyber.base.frameworkBase.core.DriverFactory;
+import br.com.cyber.base.frameworkBase.core.Properties;
+import br.com.cyber.base.frameworkBase.core.ScenarioDeadline;
 import br.com.cyber.base.frameworkBase.core.exceptions.InteractionsException;
 import br.com.cyber.base.frameworkBase.core.interaction.interfaces.IAwait;
 import br.com.cyber.base.frameworkBase.core.interaction.interfaces.IClick;
 import br.com.cyber.base.frameworkBase.enums.ExceptionsMessages;
 import org.junit.Assert;
 import org.openqa.selenium.*;
-import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * <p>
@@ -40,7 +47,11 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: url() - Acessando o endereço: %s.", url));
 
 		try {
+			ElementCache.invalidate();
+			PageReadiness.beforeNavigation();
+			FrameContext.reset();
 			DriverFactory.getDriver().get(url);
+			FrameContext.top();
 		} catch (Exception e) {
 			ExceptionsMessages.WEBDRIVER.getException(e, url);
 		}
@@ -73,7 +84,8 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public void write(By by, String text, String description) {
 		log.info(String.format("Método: write() - Escrevendo '%s' no elemento %s.", text, description));
 		try {
-			DriverFactory.getDriver().findElement(by).sendKeys(text);
+			FrameContext.navigating();
+			ElementCache.accept(by, element -> element.sendKeys(text));
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -123,10 +135,11 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: writeSlowly() - Escrevendo lentamente '%s' no elemento %s.", text, description));
 		try {
 			textClear(by, description);
-			WebElement txtValor = DriverFactory.getDriver().findElement(by);
-			List<String> list = Arrays.asList(text.split(""));
-			//TODO Refatorar o forEach
-			list.forEach(txtValor::sendKeys);
+			FrameContext.navigating();
+			ElementCache.acceptOnce(by, txtValor -> new InputSequence()
+					.focus(txtValor)
+					.type(text, Duration.ofMillis(Properties.INPUT_KEY_DELAY_MILLIS))
+					.perform());
 
 
 		} catch (NoSuchElementException e) {
@@ -149,6 +162,68 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		}
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> preenche vários campos de um formulário em uma única
+	 * chamada ao navegador, disparando os eventos <i>input</i> e <i>change</i> de
+	 * cada campo.
+	 *
+	 * @param fields      são os valores indexados pelo {@link By seletor} de cada
+	 *                    campo, preenchidos na ordem do {@link Map mapa}.
+	 * @param description é o {@link String nome} do formulário.
+	 * @throws NoSuchElementException          caso algum campo não existir.
+	 * @throws ElementNotInteractableException caso algum campo estiver desabilitado
+	 *                                         ou somente leitura.
+	 * @see InteractionsException
+	 * @see #fillForm(Map, Collection, String)
+	 */
+	public void fillForm(Map<By, String> fields, String description) {
+		fillForm(fields, Collections.emptySet(), description);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> preenche vários campos de um formulário em uma única
+	 * chamada ao navegador. Os campos informados em <i>typed</i> são digitados com
+	 * <i>sendKeys</i>, para os casos em que a página depende de eventos de
+	 * teclado.
+	 *
+	 * @param fields      são os valores indexados pelo {@link By seletor} de cada
+	 *                    campo, preenchidos na ordem do {@link Map mapa}.
+	 * @param typed       são os {@link By seletores} dos campos a serem digitados.
+	 * @param description é o {@link String nome} do formulário.
+	 * @throws NoSuchElementException          caso algum campo não existir.
+	 * @throws ElementNotInteractableException caso algum campo estiver desabilitado
+	 *                                         ou somente leitura.
+	 * @see InteractionsException
+	 * @see FormFiller
+	 */
+	public void fillForm(Map<By, String> fields, Collection<By> typed, String description) {
+		log.info(String.format("Método: fillForm() - Preenchendo %d campos do formulário %s.", fields.size(), description));
+		try {
+			FrameContext.navigating();
+			FormFiller.fill(fields, typed);
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+	}
+
 	/**
 	 * <p>
 	 * <strong>Substitui:</strong>
@@ -174,7 +249,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public void textClear(By by, String description) {
 		log.info(String.format("Método: textClear() - Apagando o texto no elemento: %s.", description));
 		try {
-			DriverFactory.getDriver().findElement(by).clear();
+			ElementCache.accept(by, WebElement::clear);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -224,7 +299,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public boolean isRadioSelected(By by, String description) {
 		log.info(String.format("Método: isRadioSelected() - Verificando se o elemento %s está marcado/selecionado.", description));
 		try {
-			return DriverFactory.getDriver().findElement(by).isSelected();
+			return ElementCache.apply(by, WebElement::isSelected);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -274,7 +349,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public String getText(By by, String description) {
 		log.info(String.format("Método: getText() - Obtendo texto do elemento %s.", description));
 		try {
-			String text = DriverFactory.getDriver().findElement(by).getText();
+			String text = ElementCache.apply(by, WebElement::getText);
 			log.info(String.format("O texto obtido foi: %s.", text));
 			return text;
 
@@ -299,6 +374,48 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		return null;
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém, loga e retorna os textos, atributos e
+	 * propriedades de vários elementos em uma única chamada ao navegador ou
+	 * {@link null} em caso de falha.
+	 *
+	 * @param reader      é o {@link ElementReader conjunto de leituras} a ser
+	 *                    executado.
+	 * @param description é o {@link String nome} do conjunto de elementos.
+	 * @return os valores indexados pelo nome de cada leitura.
+	 * @throws NoSuchElementException caso algum elemento não existir.
+	 * @see InteractionsException
+	 * @see ElementReader
+	 */
+	public Map<String, String> read(ElementReader reader, String description) {
+		log.info(String.format("Método: read() - Obtendo os valores dos elementos %s.", description));
+		try {
+			Map<String, String> values = reader.read();
+			log.info(String.format("Os valores obtidos foram: %s.", values));
+			return values;
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+		return null;
+	}
+
 	/**
 	 * <p>
 	 * <strong>Substitui:</strong>
@@ -383,7 +500,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public String getAttribute(By by, String attribute, String description) {
 		log.info(String.format("Método: getAttribute() - Obtendo o atributo %s do elemento: %s.", attribute, description));
 		try {
-			String text = DriverFactory.getDriver().findElement(by).getAttribute(attribute);
+			String text = ElementCache.apply(by, element -> element.getAttribute(attribute));
 			log.info(String.format("O atributo obtido foi: %s.", text));
 			return text;
 
@@ -427,9 +544,54 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public void wait(int milissegundos) {
 		log.info(String.format("Método: wait() - Aguardando implicitamente por %.1f segundos", ((float) milissegundos / 1000)));
 		try {
-			Thread.sleep(milissegundos);
+			Thread.sleep(ScenarioDeadline.bound(Duration.ofMillis(milissegundos)).toMillis());
 		} catch (InterruptedException e) {
 			ExceptionsMessages.INTERRUPTED.getException(e, "");
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, "");
+		}
+	}
+
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que a página fique ociosa, sem
+	 * requisições, quadros de animação pendentes ou alterações na DOM durante
+	 * {@link Properties#PAGE_IDLE_QUIET_MILLIS PAGE_IDLE_QUIET_MILLIS}.
+	 *
+	 * @throws TimeoutException caso a página não fique ociosa em
+	 *                          {@link Properties#PAGE_IDLE_TIMEOUT_SECONDS
+	 *                          PAGE_IDLE_TIMEOUT_SECONDS}.
+	 * @see #awaitPageIdle(int, int)
+	 */
+	public void awaitPageIdle() {
+		awaitPageIdle(Properties.PAGE_IDLE_QUIET_MILLIS, Properties.PAGE_IDLE_TIMEOUT_SECONDS);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que a página fique ociosa pelo período
+	 * de silêncio informado, substituindo esperas fixas com {@link #wait(int)
+	 * wait()} após navegações em sessões com <i>PageLoadStrategy.NONE</i>.
+	 *
+	 * @param quietMillis é o período sem atividade exigido em milissegundos.
+	 * @param seconds     é a quantidade de {@link Integer segundos} para aguardar.
+	 * @throws TimeoutException caso a página não fique ociosa a tempo.
+	 * @see InteractionsException
+	 * @see PageReadiness
+	 */
+	public void awaitPageIdle(int quietMillis, int seconds) {
+		Instant before = Instant.now();
+		log.info(String.format("Método: awaitPageIdle() - Aguardando a página ficar ociosa por %d ms.", quietMillis));
+		try {
+			PageReadiness.awaitIdle(Duration.ofMillis(quietMillis), ScenarioDeadline.bound(Duration.ofSeconds(seconds)));
+			log.info(compareTime(before, Instant.now()));
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, "página");
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, "página");
 		}
 	}
 
@@ -461,7 +623,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public boolean isElementDisplayed(By by, String description) {
 		log.info(String.format("Método: isElementDisplayed() - Verificando se o elemento %s está visível.", description));
 		try {
-			return DriverFactory.getDriver().findElement(by).isDisplayed();
+			return ElementCache.apply(by, WebElement::isDisplayed);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -511,11 +673,12 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: randomClickList() - Gerando uma lista randômica para clicks nos elementos %s.", description));
 		try {
 
-			List<WebElement> elementos = DriverFactory.getDriver().findElements(by);
-			log.info(String.format("O número de elementos é %d", elementos.size()));
-			Integer n = (int) (Math.random() * (elementos.size() - 1));
+			int quantidade = ListQuery.count(by);
+			log.info(String.format("O número de elementos é %d", quantidade));
+			Integer n = (int) (Math.random() * (quantidade - 1));
 			log.info(String.format("Selecionando o elemento de número %s.", n.toString()));
-			elementos.get(n).click();
+			FrameContext.navigating();
+			ListQuery.nth(by, n).click();
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -537,6 +700,77 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		}
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> procura o elemento sem lançar exceções caso ele não
+	 * exista. A busca utiliza <i>findElements</i>, que retorna imediatamente já
+	 * que o framework não configura esperas implícitas.
+	 *
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param description é o {@link String nome} do elemento.
+	 * @return o {@link WebElement elemento} ou {@link Optional#empty() vazio}.
+	 * @see #isPresent(By, String)
+	 */
+	public Optional<WebElement> tryFind(By by, String description) {
+		log.info(String.format("Método: tryFind() - Procurando o elemento %s.", description));
+		List<WebElement> elements = DriverFactory.getDriver().findElements(LocatorCompiler.compile(by));
+		if (elements.isEmpty())
+			return Optional.empty();
+		ElementCache.put(by, elements.get(0));
+		return Optional.of(elements.get(0));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> verifica se o elemento existe na página sem lançar
+	 * exceções nem registrar erros caso ele não exista.
+	 *
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param description é o {@link String nome} do elemento.
+	 * @return {@link Boolean true} caso ao menos um elemento seja encontrado.
+	 * @throws org.openqa.selenium.InvalidSelectorException caso o seletor seja
+	 *                                                      inválido.
+	 * @see ListQuery#count(By)
+	 */
+	public boolean isPresent(By by, String description) {
+		boolean present = ListQuery.count(by) > 0;
+		log.info(String.format("Método: isPresent() - O elemento %s %sestá presente.", description, present ? "" : "não "));
+		return present;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que o elemento não exista ou não esteja
+	 * visível, retornando {@link Boolean false} ao invés de lançar uma exceção
+	 * caso o tempo seja ultrapassado.
+	 *
+	 * @param by          é o {@link By seletor} do elemento.
+	 * @param seconds     é a quantidade de {@link Integer segundos} para aguardar.
+	 * @param description é o {@link String nome} do elemento.
+	 * @return {@link Boolean true} caso o elemento tenha desaparecido a tempo.
+	 * @throws TimeoutException caso o orçamento de tempo do cenário ou do passo
+	 *                          já tenha se esgotado.
+	 * @see ElementWatcher#awaitAbsent(By, Duration)
+	 * @see ScenarioDeadline#bound(Duration)
+	 */
+	public boolean awaitAbsent(By by, int seconds, String description) {
+		Instant before = Instant.now();
+		log.info(String.format("Método: awaitAbsent() - Aguardando o elemento %s desaparecer por %d segundos.", description, seconds));
+		try {
+
+			boolean absent = ElementWatcher.awaitAbsent(by, ScenarioDeadline.bound(Duration.ofSeconds(seconds)));
+			log.info(absent ? compareTime(before, Instant.now()) : String.format("O elemento %s continua visível.", description));
+			return absent;
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+		return false;
+	}
+
 	/**
 	 * <p>
 	 * <strong>Substitui:</strong>
@@ -566,7 +800,8 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: selectComboByValue() - Selecionando o elemento %s do combo através do valor %s.", description, value));
 		try {
 
-			new Select(DriverFactory.getDriver().findElement(by)).selectByValue(value);
+			FrameContext.navigating();
+			ElementCache.accept(by, element -> new Select(element).selectByValue(value));
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -614,7 +849,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: slider() - movendo o elemento %s %s unidades.", description, number.toString()));
 		try {
 
-			new Actions(DriverFactory.getDriver()).dragAndDropBy(DriverFactory.getDriver().findElement(by), number, 0).build().perform();
+			ElementCache.accept(by, element -> new InputSequence().drag(element, number, 0).perform());
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -668,9 +903,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		try {
 
 			click(by, "Clicando no Slider");
-			for (int i = 0; i <= repetitions; i++) {
-				DriverFactory.getDriver().findElement(by).sendKeys(Keys.ARROW_RIGHT);
-			}
+			new InputSequence().press(Keys.ARROW_RIGHT, repetitions + 1, Duration.ZERO).perform();
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -720,7 +953,9 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: entrarFrame() - no elemento índice %s.", index.toString()));
 		try {
 
+			ElementCache.invalidate();
 			DriverFactory.getDriver().switchTo().frame(index);
+			FrameContext.enter("#" + index);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -773,7 +1008,9 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: entrarFrame() - no elemento de nome %s.", description));
 		try {
 
+			ElementCache.invalidate();
 			DriverFactory.getDriver().switchTo().frame(frame);
+			FrameContext.enter(frame);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -819,7 +1056,13 @@ public class Interactions implements IBrowser, IAwait, IClick {
 
 		try {
 
+			if (FrameContext.isTop()) {
+				log.info("Já está no conteúdo principal.");
+				return;
+			}
+			ElementCache.invalidate();
 			DriverFactory.getDriver().switchTo().defaultContent();
+			FrameContext.top();
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -844,6 +1087,55 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		}
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> acessa o caminho de frames informado a partir do
+	 * conteúdo principal. Nenhum comando é enviado caso o navegador já esteja no
+	 * caminho e, caso esteja em um frame intermediário do caminho, apenas os
+	 * frames restantes são acessados.
+	 *
+	 * @param description é o {@link String nome} do elemento.
+	 * @param frames      são os nomes ou ids dos frames, do mais externo ao mais
+	 *                    interno.
+	 * @throws NoSuchFrameException caso algum frame não existir.
+	 * @see InteractionsException
+	 * @see FrameContext
+	 */
+	public void switchFramePath(String description, String... frames) {
+		log.info(String.format("Método: switchFramePath() - Acessando o caminho de frames %s.", Arrays.toString(frames)));
+		try {
+
+			List<String> target = Arrays.asList(frames);
+			List<String> current = FrameContext.path();
+			if (target.equals(current)) {
+				log.info("Já está no caminho de frames informado.");
+				return;
+			}
+
+			int start = 0;
+			ElementCache.invalidate();
+			if (current != null && current.size() < target.size() && target.subList(0, current.size()).equals(current)) {
+				start = current.size();
+			} else {
+				FrameContext.reset();
+				DriverFactory.getDriver().switchTo().defaultContent();
+				FrameContext.top();
+			}
+			for (String frame : target.subList(start, target.size())) {
+				DriverFactory.getDriver().switchTo().frame(frame);
+				FrameContext.enter(frame);
+			}
+
+		} catch (NoSuchFrameException e) {
+			FrameContext.reset();
+			ExceptionsMessages.NO_SUCH_FRAME.getException(e, description);
+
+		} catch (Exception e) {
+			FrameContext.reset();
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+	}
+
 	/**
 	 *
 	 * <p>
@@ -870,7 +1162,11 @@ public class Interactions implements IBrowser, IAwait, IClick {
 
 		try {
 
+			ElementCache.invalidate();
+			PageReadiness.beforeNavigation();
+			FrameContext.reset();
 			DriverFactory.getDriver().navigate().refresh();
+			FrameContext.top();
 
 			pageValidation(by, validation, description);
 
@@ -925,7 +1221,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 	public int sizeListElements(By by, String description) {
 		log.info(String.format("Método: sizeListElements() - Contando quantos elemento tem dentro do %s.", description));
 		try {
-			return DriverFactory.getDriver().findElements(by).size();
+			return ListQuery.count(by);
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
@@ -948,6 +1244,198 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		return 0;
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém o texto visível de todos os elementos da
+	 * lista em uma única chamada ao navegador.
+	 *
+	 * @param by          é o {@link By seletor} da lista de elementos.
+	 * @param description é o {@link String nome} da lista de elementos.
+	 * @return os textos na ordem da página ou {@link null} em caso de falha.
+	 * @throws NoSuchElementException          caso o elemento não existir.
+	 * @throws TimeoutException                caso exceder o tempo de carregamento
+	 *                                         do elemento.
+	 * @throws ElementNotVisibleException      caso a visão do elemento estiver
+	 *                                         obstruída ou ele estiver oculto.
+	 * @throws StaleElementReferenceException  caso o elemento não estiver mais
+	 *                                         visível na DOM.
+	 * @throws ElementNotInteractableException caso o elemento estiver visível, mas
+	 *                                         em um estado não interagível.
+	 * @see InteractionsException
+	 * @see ListQuery
+	 */
+	public List<String> getTexts(By by, String description) {
+		log.info(String.format("Método: getTexts() - Obtendo os textos da lista %s.", description));
+		try {
+			List<String> texts = ListQuery.texts(by);
+			log.info(String.format("Foram obtidos %d textos.", texts.size()));
+			return texts;
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém um atributo de todos os elementos da lista em
+	 * uma única chamada ao navegador.
+	 *
+	 * @param by          é o {@link By seletor} da lista de elementos.
+	 * @param attribute   é o {@link String atributo} a ser lido.
+	 * @param description é o {@link String nome} da lista de elementos.
+	 * @return os valores na ordem da página ou {@link null} em caso de falha.
+	 * @throws NoSuchElementException          caso o elemento não existir.
+	 * @throws TimeoutException                caso exceder o tempo de carregamento
+	 *                                         do elemento.
+	 * @throws ElementNotVisibleException      caso a visão do elemento estiver
+	 *                                         obstruída ou ele estiver oculto.
+	 * @throws StaleElementReferenceException  caso o elemento não estiver mais
+	 *                                         visível na DOM.
+	 * @throws ElementNotInteractableException caso o elemento estiver visível, mas
+	 *                                         em um estado não interagível.
+	 * @see InteractionsException
+	 * @see ListQuery
+	 */
+	public List<String> getAttributes(By by, String attribute, String description) {
+		log.info(String.format("Método: getAttributes() - Obtendo o atributo %s da lista %s.", attribute, description));
+		try {
+			List<String> values = ListQuery.attributes(by, attribute);
+			log.info(String.format("Foram obtidos %d valores.", values.size()));
+			return values;
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna a posição do primeiro elemento da lista cujo
+	 * texto visível seja igual ao informado.
+	 *
+	 * @param by          é o {@link By seletor} da lista de elementos.
+	 * @param text        é o {@link String texto} procurado.
+	 * @param description é o {@link String nome} da lista de elementos.
+	 * @return a posição do elemento ou <i>-1</i> caso nenhum corresponda.
+	 * @throws NoSuchElementException          caso o elemento não existir.
+	 * @throws TimeoutException                caso exceder o tempo de carregamento
+	 *                                         do elemento.
+	 * @throws ElementNotVisibleException      caso a visão do elemento estiver
+	 *                                         obstruída ou ele estiver oculto.
+	 * @throws StaleElementReferenceException  caso o elemento não estiver mais
+	 *                                         visível na DOM.
+	 * @throws ElementNotInteractableException caso o elemento estiver visível, mas
+	 *                                         em um estado não interagível.
+	 * @see InteractionsException
+	 * @see ListQuery
+	 */
+	public int indexOfText(By by, String text, String description) {
+		log.info(String.format("Método: indexOfText() - Procurando '%s' na lista %s.", text, description));
+		try {
+			int index = ListQuery.indexOfText(by, text);
+			log.info(String.format("A posição encontrada foi: %d.", index));
+			return index;
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+		return -1;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> clica no elemento da posição informada sem obter a
+	 * lista inteira de elementos.
+	 *
+	 * @param by          é o {@link By seletor} da lista de elementos.
+	 * @param index       é a posição do elemento, iniciando em zero.
+	 * @param description é o {@link String nome} da lista de elementos.
+	 * @throws NoSuchElementException          caso o elemento não existir.
+	 * @throws TimeoutException                caso exceder o tempo de carregamento
+	 *                                         do elemento.
+	 * @throws ElementNotVisibleException      caso a visão do elemento estiver
+	 *                                         obstruída ou ele estiver oculto.
+	 * @throws StaleElementReferenceException  caso o elemento não estiver mais
+	 *                                         visível na DOM.
+	 * @throws ElementNotInteractableException caso o elemento estiver visível, mas
+	 *                                         em um estado não interagível.
+	 * @see InteractionsException
+	 * @see ListQuery
+	 */
+	public void clickIndex(By by, int index, String description) {
+		log.info(String.format("Método: clickIndex() - Clicando no elemento de número %d da lista %s.", index, description));
+		try {
+			FrameContext.navigating();
+			ListQuery.nth(by, index).click();
+
+		} catch (NoSuchElementException e) {
+			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
+
+		} catch (TimeoutException e) {
+			ExceptionsMessages.TIMEOUT.getException(e, description);
+
+		} catch (ElementNotVisibleException e) {
+			ExceptionsMessages.NOT_VISIBLE.getException(e, description);
+
+		} catch (StaleElementReferenceException e) {
+			ExceptionsMessages.STALE_REFERENCE.getException(e, description);
+
+		} catch (ElementNotInteractableException e) {
+			ExceptionsMessages.NOT_INTERACTABLE.getException(e, description);
+
+		} catch (Exception e) {
+			ExceptionsMessages.EXCEPTION.getException(e, description);
+		}
+	}
+
 	/**
 	 * <p>
 	 * <strong>Substitui:</strong>
@@ -975,9 +1463,7 @@ public class Interactions implements IBrowser, IAwait, IClick {
 		log.info(String.format("Método: moverMouse() - movendo mouse %s", description));
 		try {
 
-			Actions mouse = new Actions(DriverFactory.getDriver());
-			WebElement elemento = DriverFactory.getDriver().findElement(by);
-			mouse.moveToElement(elemento).perform();
+			ElementCache.accept(by, elemento -> new InputSequence().moveTo(elemento).perform());
 
 		} catch (NoSuchElementException e) {
 			ExceptionsMessages.NO_SUCH_ELEMENT.getException(e, description);
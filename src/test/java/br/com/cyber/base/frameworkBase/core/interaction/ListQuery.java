@@ -0,0 +1,148 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+
+/**
+ * <p>
+ * Consultas sobre listas de elementos executadas dentro da página.
+ * <p>
+ * Ao invés de trazer um {@link WebElement WebElement} para cada item da lista
+ * através de {@link WebDriver#findElements(By) findElements}, a contagem, os
+ * textos, os atributos e a busca por texto são resolvidos em uma única chamada
+ * ao navegador, que devolve apenas o resultado. Seletores não suportados na
+ * página utilizam <i>findElements</i>, e seletores inválidos lançam
+ * {@link InvalidSelectorException InvalidSelectorException} como ele.
+ *
+ * @see Interactions#sizeListElements(By, String)
+ * @see Interactions#randomClickList(By, String)
+ */
+public final class ListQuery {
+
+	private static final String QUERY = ScriptLocator.FIND
+			+ "var nodes = findAll(arguments[0], arguments[1]), mode = arguments[2], arg = arguments[3];"
+			+ "function text(el) { return (el.innerText || '').replace(/\\u00a0/g, ' ').trim(); }"
+			+ "switch (mode) {"
+			+ "  case 'count': return nodes.length;"
+			+ "  case 'texts': return nodes.map(text);"
+			+ "  case 'attributes': return nodes.map(function (el) { return el.getAttribute(arg); });"
+			+ "  case 'index':"
+			+ "    for (var i = 0; i < nodes.length; i++) if (text(nodes[i]) === arg) return i;"
+			+ "    return -1;"
+			+ "  case 'nth': return nodes[arg] || null;"
+			+ "}";
+
+	private ListQuery() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> conta os elementos encontrados pelo seletor.
+	 *
+	 * @param by é o {@link By seletor} da lista de elementos.
+	 * @return a quantidade de elementos.
+	 */
+	public static int count(By by) {
+		Object result = query(by, "count", null);
+		if (result == null)
+			return DriverFactory.getDriver().findElements(by).size();
+		return ((Number) result).intValue();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém o texto visível de todos os elementos.
+	 *
+	 * @param by é o {@link By seletor} da lista de elementos.
+	 * @return os textos na ordem da página.
+	 */
+	public static List<String> texts(By by) {
+		Object result = query(by, "texts", null);
+		if (result == null)
+			return DriverFactory.getDriver().findElements(by).stream().map(WebElement::getText).collect(Collectors.toList());
+		return strings(result);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém um atributo de todos os elementos.
+	 *
+	 * @param by        é o {@link By seletor} da lista de elementos.
+	 * @param attribute é o {@link String atributo} a ser lido.
+	 * @return os valores na ordem da página.
+	 */
+	public static List<String> attributes(By by, String attribute) {
+		Object result = query(by, "attributes", attribute);
+		if (result == null)
+			return DriverFactory.getDriver().findElements(by).stream().map(element -> element.getAttribute(attribute)).collect(Collectors.toList());
+		return strings(result);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> busca a posição do primeiro elemento cujo texto
+	 * visível seja igual ao informado.
+	 *
+	 * @param by   é o {@link By seletor} da lista de elementos.
+	 * @param text é o {@link String texto} procurado.
+	 * @return a posição do elemento ou <i>-1</i> caso nenhum corresponda.
+	 */
+	public static int indexOfText(By by, String text) {
+		Object result = query(by, "index", text);
+		if (result == null)
+			return texts(by).indexOf(text);
+		return ((Number) result).intValue();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> obtém somente o elemento da posição informada.
+	 *
+	 * @param by    é o {@link By seletor} da lista de elementos.
+	 * @param index é a posição do elemento, iniciando em zero.
+	 * @return {@link WebElement WebElement}
+	 * @throws NoSuchElementException caso a lista não possua a posição.
+	 */
+	public static WebElement nth(By by, int index) {
+		Object result = query(by, "nth", index);
+		if (result instanceof WebElement)
+			return (WebElement) result;
+		if (result == null) {
+			List<WebElement> elements = DriverFactory.getDriver().findElements(by);
+			if (index >= 0 && index < elements.size())
+				return elements.get(index);
+		}
+		throw new NoSuchElementException(String.format("Unable to locate element %d of: %s", index, by));
+	}
+
+	private static Object query(By by, String mode, Object argument) {
+		WebDriver driver = DriverFactory.getDriver();
+		String[] locator = ScriptLocator.of(by);
+		if (locator == null || !(driver instanceof JavascriptExecutor))
+			return null;
+		Object result;
+		try {
+			result = ((JavascriptExecutor) driver).executeScript(QUERY, locator[0], locator[1], mode, argument);
+		} catch (JavascriptException e) {
+			throw ScriptLocator.translate(e);
+		}
+		return result == null ? Boolean.FALSE : result;
+	}
+
+	private static List<String> strings(Object result) {
+		List<String> values = new ArrayList<>();
+		for (Object value : (List<?>) result)
+			values.add(value == null ? null : value.toString());
+		return values;
+	}
+}
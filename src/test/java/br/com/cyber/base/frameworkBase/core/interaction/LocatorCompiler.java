@@ -0,0 +1,174 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Conversão de seletores {@link By#xpath(String) XPath} simples em
+ * {@link By#id(String) By.id} ou {@link By#cssSelector(String)
+ * By.cssSelector}, resolvidos mais rapidamente pelos navegadores.
+ * <p>
+ * Somente expressões com tradução exata são convertidas: passos iniciados por
+ * <i>//</i> ou <i>/</i> com <i>*</i> ou o nome de um elemento exclusivo do HTML
+ * e predicados
+ * formados por <i>@atributo</i>, <i>@atributo='valor'</i>,
+ * <i>contains(@atributo, 'valor')</i> e <i>starts-with(@atributo, 'valor')</i>
+ * unidos por <i>and</i>. Qualquer outra expressão, como posições,
+ * <i>text()</i> ou eixos, é mantida em XPath. Em um documento HTML o nome de
+ * tag do XPath só encontra elementos do namespace HTML, enquanto o CSS também
+ * encontra elementos SVG e MathML de mesmo nome, por isso tags como
+ * <i>svg</i>, <i>a</i> ou <i>title</i> mantêm o XPath. O resultado é
+ * armazenado por seletor, até {@link #MAX_COMPILED MAX_COMPILED} seletores.
+ */
+public final class LocatorCompiler {
+
+	private static final Logger log = LoggerFactory.getLogger(LocatorCompiler.class.getSimpleName());
+
+	private static final String NAME = "[a-z_][a-z0-9_-]*";
+	private static final String VALUE = "(?:'([^']*)'|\"([^\"]*)\")";
+
+	private static final Pattern STEP = Pattern.compile("(//|/)(\\*|[a-z][a-z0-9]*)((?:\\[[^\\[\\]]*\\])*)");
+	private static final Pattern PREDICATE = Pattern.compile("\\[([^\\[\\]]*)\\]");
+	private static final Pattern EQUALS = Pattern.compile("@(" + NAME + ")\\s*=\\s*" + VALUE);
+	private static final Pattern PRESENT = Pattern.compile("@(" + NAME + ")");
+	private static final Pattern FUNCTION = Pattern.compile("(contains|starts-with)\\(\\s*@(" + NAME + ")\\s*,\\s*" + VALUE + "\\s*\\)");
+
+	/**
+	 * Atributos cujos valores o HTML compara sem diferenciar maiúsculas em
+	 * seletores CSS, ao contrário do XPath.
+	 */
+	private static final Set<String> CASE_INSENSITIVE = new HashSet<>(Arrays.asList("accept", "accept-charset", "align",
+			"alink", "axis", "bgcolor", "charset", "checked", "clear", "codetype", "color", "compact", "declare", "defer",
+			"dir", "direction", "disabled", "enctype", "face", "frame", "hreflang", "http-equiv", "lang", "language",
+			"link", "media", "method", "multiple", "nohref", "noresize", "noshade", "nowrap", "readonly", "rel", "rev",
+			"rules", "scope", "scrolling", "selected", "shape", "target", "text", "type", "valign", "valuetype", "vlink"));
+
+	/**
+	 * Elementos HTML cujo nome não existe no SVG nem no MathML.
+	 */
+	private static final Set<String> HTML_ONLY = new HashSet<>(Arrays.asList("abbr", "address", "area", "article",
+			"aside", "b", "base", "bdi", "bdo", "blockquote", "body", "br", "button", "caption", "center", "cite",
+			"code", "col", "colgroup", "data", "datalist", "dd", "del", "details", "dfn", "dialog", "div", "dl", "dt",
+			"em", "embed", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6",
+			"head", "header", "hr", "html", "i", "iframe", "img", "input", "ins", "kbd", "label", "legend", "li",
+			"link", "main", "map", "mark", "menu", "meta", "meter", "nav", "noscript", "object", "ol", "optgroup",
+			"option", "output", "p", "param", "picture", "pre", "progress", "q", "rp", "rt", "ruby", "s", "samp",
+			"section", "select", "slot", "small", "source", "span", "strong", "sub", "summary", "sup", "table",
+			"tbody", "td", "template", "textarea", "tfoot", "th", "thead", "time", "tr", "track", "u", "ul", "var",
+			"wbr"));
+
+	/**
+	 * Quantidade máxima de seletores armazenados. Ao ser atingida o cache é
+	 * esvaziado, limitando a memória em execuções com seletores dinâmicos.
+	 */
+	static final int MAX_COMPILED = 4096;
+
+	private static final Map<By, By> compiled = new ConcurrentHashMap<>();
+
+	private LocatorCompiler() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o seletor nativo equivalente ao XPath ou o
+	 * próprio seletor quando não houver tradução exata.
+	 *
+	 * @param by é o {@link By seletor} original.
+	 * @return {@link By By}
+	 */
+	public static By compile(By by) {
+		if (!Properties.LOCATOR_COMPILER || !(by instanceof By.ByXPath))
+			return by;
+		By result = compiled.get(by);
+		if (result != null)
+			return result;
+		if (compiled.size() >= MAX_COMPILED)
+			compiled.clear();
+		return compiled.computeIfAbsent(by, LocatorCompiler::translate);
+	}
+
+	private static By translate(By by) {
+		String xpath = by.toString().substring("By.xpath: ".length()).trim();
+		if (!xpath.startsWith("//"))
+			return by;
+
+		StringBuilder css = new StringBuilder();
+		String id = null;
+		int steps = 0;
+		int conditions = 0;
+		Matcher step = STEP.matcher(xpath);
+		int position = 0;
+		while (position < xpath.length()) {
+			if (!step.find(position) || step.start() != position)
+				return by;
+			if (!step.group(2).equals("*") && !HTML_ONLY.contains(step.group(2)))
+				return by;
+			if (steps > 0)
+				css.append(step.group(1).equals("//") ? " " : " > ");
+			css.append(step.group(2));
+			steps++;
+
+			Matcher predicate = PREDICATE.matcher(step.group(3));
+			while (predicate.find()) {
+				for (String condition : predicate.group(1).split("\\s+and\\s+")) {
+					String selector = condition(condition.trim());
+					if (selector == null)
+						return by;
+					css.append(selector);
+					conditions++;
+					Matcher equals = EQUALS.matcher(condition.trim());
+					if (equals.matches() && equals.group(1).equals("id"))
+						id = value(equals);
+				}
+			}
+			position = step.end();
+		}
+
+		By result = (steps == 1 && conditions == 1 && id != null && !id.isEmpty() && xpath.startsWith("//*"))
+				? By.id(id)
+				: By.cssSelector(css.toString());
+		log.info(String.format("Método: compile() - Seletor '%s' convertido para '%s'.", xpath, result));
+		return result;
+	}
+
+	private static String condition(String condition) {
+		Matcher equals = EQUALS.matcher(condition);
+		if (equals.matches()) {
+			if (CASE_INSENSITIVE.contains(equals.group(1)))
+				return null;
+			return String.format("[%s=%s]", equals.group(1), quote(value(equals)));
+		}
+
+		Matcher function = FUNCTION.matcher(condition);
+		if (function.matches()) {
+			String value = function.group(3) != null ? function.group(3) : function.group(4);
+			if (value.isEmpty() || CASE_INSENSITIVE.contains(function.group(2)))
+				return null;
+			return String.format("[%s%s=%s]", function.group(2), function.group(1).equals("contains") ? "*" : "^", quote(value));
+		}
+
+		Matcher present = PRESENT.matcher(condition);
+		if (present.matches())
+			return String.format("[%s]", present.group(1));
+		return null;
+	}
+
+	private static String value(Matcher matcher) {
+		return matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\a ") + "\"";
+	}
+}
@@ -0,0 +1,99 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Tabela das traduções do {@link LocatorCompiler LocatorCompiler}: as formas
+ * aceitas e os casos que precisam permanecer em XPath.
+ */
+public class LocatorCompilerTest {
+
+	@DataProvider
+	public static Object[][] convertidos() {
+		return new Object[][] {
+				{ "//*[@id='login']", By.id("login") },
+				{ "//*[@id=\"login\"]", By.id("login") },
+				{ "//input[@name='user']", By.cssSelector("input[name=\"user\"]") },
+				{ "//input[@data-test]", By.cssSelector("input[data-test]") },
+				{ "//div[contains(@class, 'card')]", By.cssSelector("div[class*=\"card\"]") },
+				{ "//span[starts-with(@id,'item-')]", By.cssSelector("span[id^=\"item-\"]") },
+				{ "//input[@name='q' and @placeholder='Buscar']", By.cssSelector("input[name=\"q\"][placeholder=\"Buscar\"]") },
+				{ "//input[@name='q'][@placeholder='Buscar']", By.cssSelector("input[name=\"q\"][placeholder=\"Buscar\"]") },
+				{ "//input[@title='diga \"oi\"']", By.cssSelector("input[title=\"diga \\\"oi\\\"\"]") },
+				{ "//ul/li", By.cssSelector("ul > li") },
+				{ "//div[@class='menu']//button", By.cssSelector("div[class=\"menu\"] button") },
+				{ "//form//*[@id='cep']", By.cssSelector("form *[id=\"cep\"]") } };
+	}
+
+	@DataProvider
+	public static Object[][] mantidos() {
+		return new Object[][] {
+				// valores comparados sem diferenciar maiúsculas pelo CSS
+				{ "//input[@type='text']" },
+				{ "//a[contains(@target, '_blank')]" },
+				// posições e funções
+				{ "//li[2]" },
+				{ "//li[last()]" },
+				{ "(//li)[1]" },
+				{ "//div[text()='Entrar']" },
+				{ "//div[contains(@class, '')]" },
+				// operadores e valores que o and simples não separa com segurança
+				{ "//div[@title='rock and roll']" },
+				{ "//div[@a='1' or @b='2']" },
+				{ "//div[not(@hidden)]" },
+				// aspas combinadas
+				{ "//input[@value=concat('a', \"'\", 'b')]" },
+				// namespaces e elementos que também existem no SVG ou no MathML
+				{ "//svg" },
+				{ "//svg/*" },
+				{ "//div//svg[@id='icone']" },
+				{ "//math" },
+				{ "//a[@href='/home']" },
+				{ "//title" },
+				{ "//svg:rect" },
+				{ "//x:div[@id='a']" },
+				// eixos, caminhos absolutos e maiúsculas
+				{ "//div/.." },
+				{ "//div/following-sibling::span" },
+				{ "/html/body" },
+				{ "//DIV" },
+				{ "id('login')" } };
+	}
+
+	@Test(dataProvider = "convertidos")
+	public void converteXPathComTraducaoExata(String xpath, By expected) {
+		assertEquals(LocatorCompiler.compile(By.xpath(xpath)), expected);
+	}
+
+	@Test(dataProvider = "mantidos")
+	public void mantemXPathSemTraducaoExata(String xpath) {
+		By by = By.xpath(xpath);
+		assertEquals(LocatorCompiler.compile(by), by);
+	}
+
+	@Test
+	public void mantemSeletoresQueNaoSaoXPath() {
+		By by = By.cssSelector("div > span");
+		assertSame(LocatorCompiler.compile(by), by);
+	}
+
+	@Test
+	public void respeitaCompiladorDesativado() {
+		boolean enabled = Properties.LOCATOR_COMPILER;
+		Properties.LOCATOR_COMPILER = false;
+		try {
+			By by = By.xpath("//input[@name='user']");
+			assertSame(LocatorCompiler.compile(by), by);
+		} finally {
+			Properties.LOCATOR_COMPILER = enabled;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CapabilityType;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Acompanhamento do carregamento da página para sessões com
+ * {@link PageLoadStrategy#NONE PageLoadStrategy.NONE}, onde a navegação
+ * retorna antes de a página terminar de carregar.
+ * <p>
+ * Um rastreador instalado na página contabiliza as requisições XHR e
+ * <i>fetch</i> em andamento, os <i>requestAnimationFrame</i> pendentes e o
+ * momento da última atividade de rede ou alteração na DOM. A página é
+ * considerada ociosa quando o <i>document.readyState</i> é <i>complete</i>,
+ * não há requisições nem quadros pendentes e nenhuma atividade ocorreu durante
+ * o período de silêncio informado. Requisições iniciadas antes da instalação
+ * do rastreador são percebidas quando terminam, através da
+ * <i>Resource Timing API</i>. Páginas com animações contínuas nunca ficam
+ * ociosas e devem utilizar a espera por elementos.
+ *
+ * @see Interactions#awaitPageIdle()
+ */
+public final class PageReadiness {
+
+	private static final long RETRY_MILLIS = 100;
+
+	private static final String TRACKER = "if (!window.__readiness) {"
+			+ "  var r = window.__readiness = { requests: 0, frames: 0, resources: 0, last: performance.now() };"
+			+ "  var touch = function () { r.last = performance.now(); };"
+			+ "  var send = XMLHttpRequest.prototype.send;"
+			+ "  XMLHttpRequest.prototype.send = function () {"
+			+ "    var finished = false, finish = function () { if (!finished) { finished = true; r.requests--; touch(); } };"
+			+ "    r.requests++; touch();"
+			+ "    this.addEventListener('loadend', finish);"
+			+ "    try { return send.apply(this, arguments); } catch (e) { finish(); throw e; }"
+			+ "  };"
+			+ "  if (window.fetch) {"
+			+ "    var fetch = window.fetch;"
+			+ "    window.fetch = function () {"
+			+ "      var finish = function () { r.requests--; touch(); };"
+			+ "      r.requests++; touch();"
+			+ "      try {"
+			+ "        return fetch.apply(this, arguments).then(function (response) { finish(); return response; }, function (error) { finish(); throw error; });"
+			+ "      } catch (e) { finish(); throw e; }"
+			+ "    };"
+			+ "  }"
+			+ "  if (window.requestAnimationFrame) {"
+			+ "    var raf = window.requestAnimationFrame, caf = window.cancelAnimationFrame, pending = {};"
+			+ "    var settle = function (id) { if (pending[id]) { delete pending[id]; r.frames--; } };"
+			+ "    window.requestAnimationFrame = function (callback) {"
+			+ "      var id = raf.call(window, function (time) { settle(id); return callback(time); });"
+			+ "      pending[id] = true; r.frames++;"
+			+ "      return id;"
+			+ "    };"
+			+ "    window.cancelAnimationFrame = function (id) { settle(id); return caf.call(window, id); };"
+			+ "  }"
+			+ "  new MutationObserver(touch).observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "  var stay = function () { window.__readinessLeaving = false; };"
+			+ "  window.addEventListener('hashchange', stay);"
+			+ "  window.addEventListener('popstate', stay);"
+			+ "  r.state = function () {"
+			+ "    var resources = performance.getEntriesByType ? performance.getEntriesByType('resource').length : 0;"
+			+ "    if (resources !== r.resources) { r.resources = resources; touch(); }"
+			+ "    return { readyState: document.readyState, requests: r.requests, frames: r.frames,"
+			+ "      quiet: Math.round(performance.now() - r.last), leaving: !!window.__readinessLeaving };"
+			+ "  };"
+			+ "}";
+
+	private static final String LEAVE = TRACKER + "window.__readinessLeaving = true;";
+
+	private static final String STATE = TRACKER + "return window.__readiness.state();";
+
+	private static final String IDLE = TRACKER
+			+ "var quiet = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+			+ "var start = performance.now();"
+			+ "(function check() {"
+			+ "  var state = window.__readiness.state();"
+			+ "  if (!state.leaving && state.readyState === 'complete' && state.requests <= 0 && state.frames <= 0 && state.quiet >= quiet)"
+			+ "    return done(true);"
+			+ "  if (performance.now() - start >= timeout)"
+			+ "    return done(false);"
+			+ "  setTimeout(check, 50);"
+			+ "})();";
+
+	private PageReadiness() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> marca a página atual como abandonada antes de uma
+	 * navegação, para que a espera não a confunda com a página seguinte. Só
+	 * envia o comando quando a sessão utiliza {@link PageLoadStrategy#NONE
+	 * PageLoadStrategy.NONE}.
+	 */
+	public static void beforeNavigation() {
+		WebDriver driver = DriverFactory.getDriver();
+		if (!returnsBeforeLoad(driver))
+			return;
+		try {
+			((JavascriptExecutor) driver).executeScript(LEAVE);
+		} catch (WebDriverException e) {
+			// Página sem suporte a scripts, como about:blank em alguns drivers.
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o estado de carregamento da página atual.
+	 *
+	 * @return {@link State State}
+	 */
+	public static State state() {
+		return new State((Map<?, ?>) ((JavascriptExecutor) DriverFactory.getDriver()).executeScript(STATE));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda até que a página permaneça ociosa pelo
+	 * período de silêncio informado.
+	 *
+	 * @param quiet   é o {@link Duration período} sem atividade exigido.
+	 * @param timeout é a {@link Duration duração} máxima da espera.
+	 * @throws TimeoutException caso a página não fique ociosa a tempo.
+	 */
+	public static void awaitIdle(Duration quiet, Duration timeout) {
+		JavascriptExecutor driver = (JavascriptExecutor) DriverFactory.getDriver();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long remaining;
+		while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+			long slice = Math.min(remaining, TimeUnit.SECONDS.toMillis(Properties.AWAIT_SLICE_SECONDS));
+			try {
+				if (Boolean.TRUE.equals(driver.executeAsyncScript(IDLE, quiet.toMillis(), slice)))
+					return;
+
+			} catch (WebDriverException e) {
+				// A página foi descarregada durante a espera, aguarda a próxima.
+				pause();
+			}
+		}
+
+		String state;
+		try {
+			state = state().toString();
+		} catch (WebDriverException e) {
+			state = "indisponível";
+		}
+		throw new TimeoutException(String.format("Expected condition failed: waiting for page to be idle for %d ms (tried for %d second(s)). Último estado: %s", quiet.toMillis(), timeout.getSeconds(), state));
+	}
+
+	private static boolean returnsBeforeLoad(WebDriver driver) {
+		if (!(driver instanceof JavascriptExecutor) || !(driver instanceof HasCapabilities))
+			return false;
+		Object strategy = ((HasCapabilities) driver).getCapabilities().getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+		return strategy != null && PageLoadStrategy.NONE.toString().equalsIgnoreCase(strategy.toString());
+	}
+
+	private static void pause() {
+		try {
+			Thread.sleep(RETRY_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException("A thread foi interrompida enquanto aguardava a página.");
+		}
+	}
+
+	/**
+	 * <p>
+	 * Estado de carregamento da página informado pelo rastreador.
+	 */
+	public static final class State {
+
+		private final String readyState;
+		private final int requests;
+		private final int frames;
+		private final long quietMillis;
+
+		private State(Map<?, ?> state) {
+			readyState = String.valueOf(state.get("readyState"));
+			requests = ((Number) state.get("requests")).intValue();
+			frames = ((Number) state.get("frames")).intValue();
+			quietMillis = ((Number) state.get("quiet")).longValue();
+		}
+
+		public String getReadyState() {
+			return readyState;
+		}
+
+		public int getRequests() {
+			return requests;
+		}
+
+		public int getFrames() {
+			return frames;
+		}
+
+		public long getQuietMillis() {
+			return quietMillis;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("readyState=%s, requisições=%d, quadros=%d, silêncio=%d ms", readyState, requests, frames, quietMillis);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * <p>
+ * Tradução de {@link By seletores} para localização dentro da página, utilizada
+ * pelos scripts que resolvem vários elementos em uma única chamada ao
+ * navegador.
+ * <p>
+ * O trecho {@link #FIND FIND} declara as funções <i>find(kind, value)</i> e
+ * <i>findAll(kind, value)</i>, que recebem o par retornado por
+ * {@link #of(By) of(By)}. Seletores que a página não consegue avaliar
+ * interrompem o script com um erro identificado, convertido em
+ * {@link InvalidSelectorException InvalidSelectorException} por
+ * {@link #translate(WebDriverException) translate}.
+ */
+final class ScriptLocator {
+
+	private static final String INVALID = "invalid selector: ";
+	private static final Pattern INVALID_SELECTOR = Pattern.compile(Pattern.quote(INVALID) + "[^\\n]*");
+
+	static final String FIND = "function invalid(kind, value, e) {"
+			+ "  return new Error('" + INVALID + "' + kind + ' ' + value + ' (' + (e && e.message) + ')');"
+			+ "}"
+			+ "function findAll(kind, value) {"
+			+ "  try {"
+			+ "    switch (kind) {"
+			+ "      case 'id': return Array.prototype.slice.call(document.querySelectorAll('[id=\"' + CSS.escape(value) + '\"]'));"
+			+ "      case 'name': return Array.prototype.slice.call(document.getElementsByName(value));"
+			+ "      case 'className': return Array.prototype.slice.call(document.getElementsByClassName(value));"
+			+ "      case 'tagName': return Array.prototype.slice.call(document.getElementsByTagName(value));"
+			+ "      case 'cssSelector': return Array.prototype.slice.call(document.querySelectorAll(value));"
+			+ "      case 'xpath':"
+			+ "        var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), nodes = [];"
+			+ "        for (var i = 0; i < result.snapshotLength; i++) if (result.snapshotItem(i).nodeType === 1) nodes.push(result.snapshotItem(i));"
+			+ "        return nodes;"
+			+ "    }"
+			+ "  } catch (e) { throw invalid(kind, value, e); }"
+			+ "  return [];"
+			+ "}"
+			+ "function find(kind, value) {"
+			+ "  try {"
+			+ "    switch (kind) {"
+			+ "      case 'id': return document.getElementById(value);"
+			+ "      case 'name': return document.getElementsByName(value)[0] || null;"
+			+ "      case 'className': return document.getElementsByClassName(value)[0] || null;"
+			+ "      case 'tagName': return document.getElementsByTagName(value)[0] || null;"
+			+ "      case 'cssSelector': return document.querySelector(value);"
+			+ "      case 'xpath':"
+			+ "        var node = document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+			+ "        return node && node.nodeType === 1 ? node : null;"
+			+ "    }"
+			+ "  } catch (e) { throw invalid(kind, value, e); }"
+			+ "  return null;"
+			+ "}";
+
+	private ScriptLocator() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> converte o seletor no par <i>tipo</i> e
+	 * <i>valor</i> entendido pelo trecho {@link #FIND FIND}.
+	 *
+	 * @param by é o {@link By seletor} do elemento.
+	 * @return o par tipo/valor ou <i>null</i> caso o seletor não seja suportado.
+	 */
+	static String[] of(By by) {
+		String description = LocatorCompiler.compile(by).toString();
+		int separator = description.indexOf(": ");
+		if (!description.startsWith("By.") || separator < 0)
+			return null;
+		String kind = description.substring(3, separator);
+		switch (kind) {
+		case "id":
+		case "name":
+		case "className":
+		case "tagName":
+		case "cssSelector":
+		case "xpath":
+			return new String[] { kind, description.substring(separator + 2) };
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> converte o erro lançado pelo trecho
+	 * {@link #FIND FIND} para um seletor inválido na exceção equivalente do
+	 * <i>findElements</i>.
+	 *
+	 * @param e é a {@link WebDriverException exceção} lançada pelo script.
+	 * @return {@link InvalidSelectorException InvalidSelectorException} ou a
+	 *         própria exceção caso o erro não seja de seletor.
+	 */
+	static WebDriverException translate(WebDriverException e) {
+		if (!(e instanceof JavascriptException) || e.getMessage() == null)
+			return e;
+		Matcher matcher = INVALID_SELECTOR.matcher(e.getMessage());
+		return matcher.find() ? new InvalidSelectorException(matcher.group(), e) : e;
+	}
+}
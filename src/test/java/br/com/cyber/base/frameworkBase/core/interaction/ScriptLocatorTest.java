@@ -0,0 +1,112 @@
+package br.com.cyber.base.frameworkBase.core.interaction;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import br.com.cyber.base.frameworkBase.core.DriverFactory;
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Verifica que seletores inválidos avaliados dentro da página chegam ao
+ * chamador como {@link InvalidSelectorException InvalidSelectorException}. Os
+ * testes com navegador são ignorados quando não é possível iniciá-lo na
+ * máquina.
+ */
+public class ScriptLocatorTest {
+
+	private static final String PAGE = "data:text/html,<div id='conteudo'>frameworkBase</div>";
+
+	private boolean headless;
+	private WebDriver driver;
+
+	@BeforeClass
+	public void iniciar() {
+		headless = Properties.HEADLESS;
+		Properties.HEADLESS = true;
+		try {
+			driver = DriverFactory.getDriver();
+			driver.get(PAGE);
+		} catch (Exception e) {
+			driver = null;
+		}
+	}
+
+	@AfterClass(alwaysRun = true)
+	public void encerrar() {
+		if (driver != null)
+			DriverFactory.killDriver();
+		Properties.HEADLESS = headless;
+	}
+
+	@Test
+	public void converteErroDeSeletorDoScript() {
+		JavascriptException error = new JavascriptException("javascript error: invalid selector: cssSelector div[ (Failed to execute 'querySelector' on 'Document': 'div[' is not a valid selector.)\n"
+				+ "  (Session info: chrome=120.0)");
+
+		WebDriverException translated = ScriptLocator.translate(error);
+
+		assertTrue(translated instanceof InvalidSelectorException, translated.getClass().getName());
+		assertTrue(translated.getMessage().startsWith("invalid selector: cssSelector div[ (Failed to execute"), translated.getMessage());
+		assertSame(translated.getCause(), error);
+	}
+
+	@Test
+	public void mantemDemaisErros() {
+		JavascriptException script = new JavascriptException("javascript error: Cannot read properties of null (reading 'focus')");
+		WebDriverException driverError = new WebDriverException("invalid selector: texto fora de um erro de script");
+
+		assertSame(ScriptLocator.translate(script), script);
+		assertSame(ScriptLocator.translate(driverError), driverError);
+	}
+
+	@Test
+	public void awaitFalhaImediatamenteComSeletorInvalido() {
+		requireBrowser();
+		long start = System.nanoTime();
+
+		assertThrows(InvalidSelectorException.class, () -> ElementWatcher.await(By.cssSelector("div["), Duration.ofSeconds(20), remaining -> {
+			throw new AssertionError("A espera por intervalos não deveria ser utilizada.");
+		}));
+		assertThrows(InvalidSelectorException.class, () -> ElementWatcher.awaitAbsent(By.xpath("//div["), Duration.ofSeconds(20)));
+
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+		assertTrue(elapsed < 5000, "O seletor inválido aguardou o tempo limite: " + elapsed + " ms");
+	}
+
+	@Test
+	public void listQueryPropagaSeletorInvalido() {
+		requireBrowser();
+
+		assertThrows(InvalidSelectorException.class, () -> ListQuery.count(By.cssSelector("li[")));
+		assertThrows(InvalidSelectorException.class, () -> ListQuery.texts(By.xpath("//li[")));
+		assertThrows(InvalidSelectorException.class, () -> ListQuery.indexOfText(By.xpath("//li["), "item"));
+		assertEquals(ListQuery.count(By.cssSelector("li")), 0);
+	}
+
+	@Test
+	public void awaitEncontraElementoComSeletorValido() {
+		requireBrowser();
+
+		assertEquals(ElementWatcher.await(By.id("conteudo"), Duration.ofSeconds(5), remaining -> null).getText(), "frameworkBase");
+	}
+
+	private void requireBrowser() {
+		if (driver == null)
+			throw new SkipException("Nenhum navegador disponível para o teste.");
+	}
+}
@@ -1,6 +1,11 @@
 package br.com.cyber.base.frameworkBase.core.interaction.interfaces;
 
+import br.com.cyber.base.frameworkBase.core.ScenarioDeadline;
 import br.com.cyber.base.frameworkBase.core.exceptions.InteractionsException;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementCache;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementLatencies;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementWatcher;
+import br.com.cyber.base.frameworkBase.core.interaction.LocatorCompiler;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
@@ -10,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
 
 import static br.com.cyber.base.frameworkBase.core.DriverFactory.getDriver;
 import static br.com.cyber.base.frameworkBase.enums.ExceptionsMessages.*;
@@ -72,11 +79,13 @@ public interface IAwait {
         log.info(String.format("Método: awaitElement() - Aguardando o elemento %s por %s segundos.", description, seconds.toString()));
 
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(seconds))
+            WebElement element = ElementWatcher.await(by, ScenarioDeadline.bound(Duration.ofSeconds(seconds)), remaining -> new FluentWait<>(getDriver())
+                    .withTimeout(remaining)
                     .pollingEvery(Duration.ofMillis(500))
                     .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+                    .until(ExpectedConditions.elementToBeClickable(LocatorCompiler.compile(by))));
+            ElementCache.put(by, element);
+            ElementLatencies.record(description, by, Duration.between(before, Instant.now()));
 
             log.info(compareTime(before, Instant.now()));
 
@@ -84,6 +93,7 @@ public interface IAwait {
             NO_SUCH_ELEMENT.getException(e, description);
 
         } catch (TimeoutException e) {
+            ElementLatencies.recordTimeout(description, by, Duration.between(before, Instant.now()));
             TIMEOUT.getException(e, description);
 
         } catch (ElementNotVisibleException e) {
@@ -108,7 +118,8 @@ public interface IAwait {
      * </ul>
      * <p>
      * <strong>Função:</strong> aguarda o tempo de carregamento de um elemento por
-     * 15 segundos, lançando uma exceção caso esse tempo seja ultrapassado. Também
+     * 20 segundos, ou pelo tempo calibrado pelo {@link ElementLatencies
+     * histórico} do elemento, lançando uma exceção caso esse tempo seja ultrapassado. Também
      * informa quanto tempo levou para que o elemento fosse carregado em caso de
      * sucesso.
      *
@@ -130,15 +141,19 @@ public interface IAwait {
      */
     default void awaitElement(By by, String description) {
         Instant before = Instant.now();
-        log.info(String.format("Método: awaitElement() - Aguardando o elemento %s por 15 segundos.", description));
+        Duration timeout = ElementLatencies.timeout(description, by, Duration.ofMillis(20000));
+        Duration polling = ElementLatencies.polling(description, by, Duration.ofMillis(500));
+        log.info(String.format("Método: awaitElement() - Aguardando o elemento %s por %d ms.", description, timeout.toMillis()));
 
         try {
 
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofMillis(20000))
-                    .pollingEvery(Duration.ofMillis(500))
+            WebElement element = ElementWatcher.await(by, ScenarioDeadline.bound(timeout), remaining -> new FluentWait<>(getDriver())
+                    .withTimeout(remaining)
+                    .pollingEvery(polling)
                     .ignoring(NoSuchElementException.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+                    .until(ExpectedConditions.elementToBeClickable(LocatorCompiler.compile(by))));
+            ElementCache.put(by, element);
+            ElementLatencies.record(description, by, Duration.between(before, Instant.now()));
 
             log.info(compareTime(before, Instant.now()));
 
@@ -146,6 +161,7 @@ public interface IAwait {
             NO_SUCH_ELEMENT.getException(e, description);
 
         } catch (TimeoutException e) {
+            ElementLatencies.recordTimeout(description, by, Duration.between(before, Instant.now()));
             TIMEOUT.getException(e, description);
 
         } catch (ElementNotVisibleException e) {
@@ -198,13 +214,64 @@ public interface IAwait {
 
         try {
 
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(timeout))
+            WebElement element = ElementWatcher.await(by, ScenarioDeadline.bound(Duration.ofSeconds(timeout)), remaining -> new FluentWait<>(getDriver())
+                    .withTimeout(remaining)
                     .pollingEvery(Duration.ofSeconds(polling))
                     .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+                    .until(ExpectedConditions.elementToBeClickable(LocatorCompiler.compile(by))));
+            ElementCache.put(by, element);
+            ElementLatencies.record(description, by, Duration.between(before, Instant.now()));
+
+            log.info(compareTime(before, Instant.now()));
+
+        } catch (NoSuchElementException e) {
+            NO_SUCH_ELEMENT.getException(e, description);
+
+        } catch (TimeoutException e) {
+            ElementLatencies.recordTimeout(description, by, Duration.between(before, Instant.now()));
+            TIMEOUT.getException(e, description);
+
+        } catch (ElementNotVisibleException e) {
+            NOT_VISIBLE.getException(e, description);
+
+        } catch (StaleElementReferenceException e) {
+            STALE_REFERENCE.getException(e, description);
+
+        } catch (ElementNotInteractableException e) {
+            NOT_INTERACTABLE.getException(e, description);
+
+        } catch (Exception e) {
+            EXCEPTION.getException(e, description);
+        }
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda ao mesmo tempo por vários elementos,
+     * retornando o {@link By seletor} do primeiro que ficar clicável. Útil em
+     * fluxos com mais de um resultado possível, como sucesso ou erro após um
+     * login, sem esperar o tempo total de um deles.
+     *
+     * @param seconds     é a quantidade de {@link Integer segundos} para aguardar.
+     * @param description é o {@link String nome} do conjunto de elementos.
+     * @param locators    são os {@link By seletores} dos elementos candidatos.
+     * @return o {@link By seletor} do elemento encontrado ou {@link null} em caso
+     *         de falha.
+     * @throws TimeoutException caso nenhum elemento fique clicável a tempo.
+     * @see InteractionsException
+     * @see #awaitAny(String, By...)
+     */
+    default By awaitAny(Integer seconds, String description, By... locators) {
+        Instant before = Instant.now();
+        log.info(String.format("Método: awaitAny() - Aguardando o primeiro dos elementos %s por %s segundos.", description, seconds.toString()));
+
+        try {
+            Map.Entry<By, WebElement> match = ElementWatcher.awaitAny(Arrays.asList(locators), ScenarioDeadline.bound(Duration.ofSeconds(seconds)));
+            ElementCache.put(match.getKey(), match.getValue());
 
+            log.info(String.format("O elemento encontrado foi: %s.", match.getKey()));
             log.info(compareTime(before, Instant.now()));
+            return match.getKey();
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -224,5 +291,23 @@ public interface IAwait {
         } catch (Exception e) {
             EXCEPTION.getException(e, description);
         }
+        return null;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda por até 20 segundos pelo primeiro de
+     * vários elementos que ficar clicável.
+     *
+     * @param description é o {@link String nome} do conjunto de elementos.
+     * @param locators    são os {@link By seletores} dos elementos candidatos.
+     * @return o {@link By seletor} do elemento encontrado ou {@link null} em caso
+     *         de falha.
+     * @throws TimeoutException caso nenhum elemento fique clicável a tempo.
+     * @see InteractionsException
+     * @see #awaitAny(Integer, String, By...)
+     */
+    default By awaitAny(String description, By... locators) {
+        return awaitAny(20, description, locators);
     }
 }
@@ -1,11 +1,12 @@
 package br.com.cyber.base.frameworkBase.core.interaction.interfaces;
 
 import br.com.cyber.base.frameworkBase.core.exceptions.InteractionsException;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementCache;
+import br.com.cyber.base.frameworkBase.core.interaction.FrameContext;
 import org.openqa.selenium.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static br.com.cyber.base.frameworkBase.core.DriverFactory.getDriver;
 import static br.com.cyber.base.frameworkBase.enums.ExceptionsMessages.*;
 import static br.com.cyber.base.frameworkBase.enums.ExceptionsMessages.EXCEPTION;
 
@@ -43,7 +44,8 @@ public interface IClick extends IAwait {
         try {
 
             awaitElement(by, description);
-            getDriver().findElement(by).click();
+            FrameContext.navigating();
+            ElementCache.accept(by, WebElement::click);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
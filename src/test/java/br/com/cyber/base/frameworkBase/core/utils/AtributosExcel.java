@@ -1,73 +1,66 @@
 package br.com.cyber.base.frameworkBase.core.utils;
 
-public class AtributosExcel {
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
 
-	public static String cpf;
-	public static String nome;
-	public static String nascimento;
-	public static String email;
-	public static String celular;
-	public static String cep;
-	public static String numeroResidencia;
+/**
+ * Atributos exportados pelo {@link ExportExcel ExportExcel}, armazenados no
+ * {@link ScenarioContext contexto} do cenário da thread atual.
+ */
+public class AtributosExcel {
 
-	
 	public static String getNome() {
-		return nome;
+		return ScenarioContext.get().get("nome");
 	}
 
 	public static void setNome(String nome) {
-		AtributosExcel.nome = nome;
+		ScenarioContext.get().set("nome", nome);
 	}
 
 	public static String getCpf() {
-		return cpf;
+		return ScenarioContext.get().get("cpf");
 	}
 
 	public static void setCpf(String cpf) {
-		AtributosExcel.cpf = cpf;
+		ScenarioContext.get().set("cpf", cpf);
 	}
 
 	public static String getNascimento() {
-		return nascimento;
+		return ScenarioContext.get().get("nascimento");
 	}
 
 	public static void setNascimento(String nascimento) {
-		AtributosExcel.nascimento = nascimento;
+		ScenarioContext.get().set("nascimento", nascimento);
 	}
 
 	public static String getEmail() {
-		return email;
+		return ScenarioContext.get().get("email");
 	}
 
 	public static void setEmail(String email) {
-		AtributosExcel.email = email;
+		ScenarioContext.get().set("email", email);
 	}
 
 	public static String getCelular() {
-		return celular;
+		return ScenarioContext.get().get("celular");
 	}
 
 	public static void setCelular(String celular) {
-		AtributosExcel.celular = celular;
+		ScenarioContext.get().set("celular", celular);
 	}
 
 	public static String getCep() {
-		return cep;
+		return ScenarioContext.get().get("cep");
 	}
 
 	public static void setCep(String cep) {
-		AtributosExcel.cep = cep;
+		ScenarioContext.get().set("cep", cep);
 	}
 
 	public static String getNumeroResidencia() {
-		return numeroResidencia;
+		return ScenarioContext.get().get("numeroResidencia");
 	}
 
 	public static void setNumeroResidencia(String numeroResidencia) {
-		AtributosExcel.numeroResidencia = numeroResidencia;
+		ScenarioContext.get().set("numeroResidencia", numeroResidencia);
 	}
-	
-	
-	
-
 }
@@ -21,15 +21,17 @@ public class ExportExcel {
 
 	public void criarevidencia() {
 
-		if (!new File(caminhoarquivo()).exists()) {
-			create();
-			populate();
-		} else {
-			populate();
+		synchronized (ExportExcel.class) {
+			if (!new File(caminhoarquivo()).exists()) {
+				create();
+				populate();
+			} else {
+				populate();
+			}
 		}
 	}
 
-	public static void create() {
+	public static synchronized void create() {
 		int cellNum = 0;
 		myFile = new File(caminhoarquivo());
 		;
@@ -66,7 +68,7 @@ public class ExportExcel {
 		close();
 	}
 
-	public static void populate() {
+	public static synchronized void populate() {
 		open();
 		int rowNum = sheet.getLastRowNum();
 		int cellNum = 0;
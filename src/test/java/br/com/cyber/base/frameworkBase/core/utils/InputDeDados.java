@@ -1,15 +1,23 @@
 package br.com.cyber.base.frameworkBase.core.utils;
 
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
+
+/**
+ * @deprecated
+ *             <p>
+ *             Ao invés disso utilize o {@link ScenarioContext ScenarioContext}.
+ *             Mantida apenas por compatibilidade, os valores são armazenados no
+ *             contexto do cenário da thread atual.
+ */
+@Deprecated
 public class InputDeDados {
 	
-	private static String input;
-	
 	public static String getInput() {
-		return input;
+		return ScenarioContext.get().getInput();
 	}
 
 	public static void setInput(String inputDados) {
-		input = inputDados;
+		ScenarioContext.get().setInput(inputDados);
 	}
 
 }
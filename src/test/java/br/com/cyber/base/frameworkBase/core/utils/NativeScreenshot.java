@@ -0,0 +1,118 @@
+package br.com.cyber.base.frameworkBase.core.utils;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.PooledHttpClientFactory;
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Captura da página inteira em uma única chamada ao Chrome, através do comando
+ * <i>Page.captureScreenshot</i> do DevTools com <i>captureBeyondViewport</i>.
+ * <p>
+ * O comando é enviado pelo endpoint <i>goog/cdp/execute</i> do chromedriver,
+ * definido nos executores criados pelo {@link PooledHttpClientFactory
+ * PooledHttpClientFactory}. Outros navegadores, o {@link
+ * org.openqa.selenium.chrome.ChromeDriver ChromeDriver} local e navegadores que
+ * recusarem o comando retornam <i>null</i>, e a captura volta a ser feita pelo
+ * AShot rolando a página. Somente a recusa do comando desativa a captura
+ * nativa para a sessão; falhas passageiras, como um tempo de leitura
+ * excedido, afetam apenas a captura atual.
+ */
+final class NativeScreenshot {
+
+	private static final Logger log = LoggerFactory.getLogger(NativeScreenshot.class.getSimpleName());
+
+	private static final Pattern UNSUPPORTED = Pattern.compile("unknown command|unrecognized command|wasn't found", Pattern.CASE_INSENSITIVE);
+
+	private static final Set<WebDriver> unsupported = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private NativeScreenshot() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> captura a página inteira no formato PNG.
+	 *
+	 * @param driver é o {@link WebDriver navegador} do cenário.
+	 * @return os bytes da imagem ou <i>null</i> caso o navegador não suporte a
+	 *         captura nativa.
+	 */
+	static byte[] capture(WebDriver driver) {
+		if (!Properties.SCREENSHOT_NATIVE || !(driver instanceof RemoteWebDriver) || unsupported.contains(driver))
+			return null;
+		RemoteWebDriver remote = (RemoteWebDriver) driver;
+		if (!BrowserType.CHROME.equalsIgnoreCase(remote.getCapabilities().getBrowserName()))
+			return null;
+
+		try {
+			Map<?, ?> metrics = cdp(remote, "Page.getLayoutMetrics", Collections.emptyMap());
+			Map<?, ?> content = (Map<?, ?>) (metrics.containsKey("cssContentSize") ? metrics.get("cssContentSize") : metrics.get("contentSize"));
+			if (content == null)
+				throw new UnsupportedCommandException("Page.getLayoutMetrics não informou o tamanho da página.");
+
+			Map<String, Object> clip = new HashMap<>();
+			clip.put("x", 0);
+			clip.put("y", 0);
+			clip.put("width", content.get("width"));
+			clip.put("height", content.get("height"));
+			clip.put("scale", 1);
+
+			Map<String, Object> params = new HashMap<>();
+			params.put("format", "png");
+			params.put("captureBeyondViewport", true);
+			params.put("clip", clip);
+			return Base64.getDecoder().decode((String) cdp(remote, "Page.captureScreenshot", params).get("data"));
+
+		} catch (Exception e) {
+			if (isUnsupported(e)) {
+				unsupported.add(driver);
+				log.warn(String.format("Método: capture() - Captura nativa indisponível, utilizando a captura por rolagem: %s", e.getMessage()));
+			} else {
+				log.warn(String.format("Método: capture() - Falha na captura nativa, utilizando a captura por rolagem somente nesta evidência: %s", e.getMessage()));
+			}
+			return null;
+		}
+	}
+
+	private static Map<?, ?> cdp(RemoteWebDriver driver, String cmd, Map<String, Object> params) throws Exception {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("cmd", cmd);
+		parameters.put("params", params);
+		Response response = driver.getCommandExecutor().execute(new Command(driver.getSessionId(), PooledHttpClientFactory.EXECUTE_CDP_COMMAND, parameters));
+		if (response.getStatus() != null && response.getStatus() == ErrorCodes.UNKNOWN_COMMAND)
+			throw new UnsupportedCommandException(String.valueOf(response.getValue()));
+		if (response.getStatus() != null && response.getStatus() != ErrorCodes.SUCCESS)
+			throw new WebDriverException(String.valueOf(response.getValue()));
+		return (Map<?, ?>) response.getValue();
+	}
+
+	/**
+	 * O executor lança {@link UnsupportedCommandException
+	 * UnsupportedCommandException} quando não conhece o comando, e o chromedriver
+	 * responde <i>unknown command</i> ou que o método do DevTools não foi
+	 * encontrado. Tempos excedidos e demais falhas permitem novas tentativas.
+	 */
+	private static boolean isUnsupported(Exception e) {
+		if (e instanceof UnsupportedCommandException)
+			return true;
+		String message = e.getMessage();
+		return e instanceof WebDriverException && message != null && UNSUPPORTED.matcher(message).find();
+	}
+}
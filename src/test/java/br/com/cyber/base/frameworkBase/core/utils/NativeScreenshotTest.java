@@ -0,0 +1,117 @@
+package br.com.cyber.base.frameworkBase.core.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.cyber.base.frameworkBase.core.PooledHttpClientFactory;
+
+/**
+ * <p>
+ * Verifica quando o {@link NativeScreenshot NativeScreenshot} desativa a
+ * captura nativa de uma sessão, contra um chromedriver simulado por um servidor
+ * HTTP local.
+ */
+public class NativeScreenshotTest {
+
+	private static final String PNG = Base64.getEncoder().encodeToString(new byte[] { (byte) 0x89, 'P', 'N', 'G' });
+
+	private HttpServer server;
+	private RemoteWebDriver driver;
+
+	@AfterMethod(alwaysRun = true)
+	public void encerrar() {
+		if (driver != null)
+			driver.quit();
+		if (server != null)
+			server.stop(0);
+	}
+
+	@Test
+	public void tentaNovamenteAposFalhaPassageira() throws IOException {
+		AtomicInteger calls = start(call -> call == 1
+				? error(500, "unknown error", "timeout: Timed out receiving message from renderer")
+				: null);
+
+		assertNull(NativeScreenshot.capture(driver));
+		assertNotNull(NativeScreenshot.capture(driver));
+		assertEquals(calls.get(), 3);
+	}
+
+	@Test
+	public void desativaCapturaQuandoOComandoNaoExiste() throws IOException {
+		AtomicInteger calls = start(call -> error(404, "unknown command", "unknown command: session/stub/goog/cdp/execute"));
+
+		assertNull(NativeScreenshot.capture(driver));
+		assertNull(NativeScreenshot.capture(driver));
+		assertEquals(calls.get(), 1);
+	}
+
+	@Test
+	public void desativaCapturaQuandoOMetodoNaoExiste() throws IOException {
+		AtomicInteger calls = start(call -> error(500, "unknown error", "unhandled inspector error: {\"code\":-32601,\"message\":\"'Page.getLayoutMetrics' wasn't found\"}"));
+
+		assertNull(NativeScreenshot.capture(driver));
+		assertNull(NativeScreenshot.capture(driver));
+		assertEquals(calls.get(), 1);
+	}
+
+	/**
+	 * @param failure recebe o número da chamada ao DevTools e retorna a resposta
+	 *                de erro ou <i>null</i> para responder com sucesso.
+	 */
+	private AtomicInteger start(IntFunction<String[]> failure) throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/session", exchange -> {
+			String path = exchange.getRequestURI().getPath();
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			if (path.endsWith("/goog/cdp/execute")) {
+				String[] error = failure.apply(calls.incrementAndGet());
+				if (error != null)
+					respond(exchange, Integer.parseInt(error[0]), String.format("{\"value\":{\"error\":\"%s\",\"message\":\"%s\",\"stacktrace\":\"\"}}", error[1], error[2].replace("\"", "\\\"")));
+				else if (body.contains("Page.getLayoutMetrics"))
+					respond(exchange, 200, "{\"value\":{\"cssContentSize\":{\"x\":0,\"y\":0,\"width\":800,\"height\":2400}}}");
+				else
+					respond(exchange, 200, String.format("{\"value\":{\"data\":\"%s\"}}", PNG));
+			} else if ("POST".equals(exchange.getRequestMethod()) && "/session".equals(path)) {
+				respond(exchange, 200, "{\"value\":{\"sessionId\":\"stub\",\"capabilities\":{\"browserName\":\"chrome\"}}}");
+			} else {
+				respond(exchange, 200, "{\"value\":null}");
+			}
+		});
+		server.start();
+		driver = new RemoteWebDriver(PooledHttpClientFactory.executor(new URL(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))), new DesiredCapabilities());
+		return calls;
+	}
+
+	private static String[] error(int status, String error, String message) {
+		return new String[] { String.valueOf(status), error, message };
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package br.com.cyber.base.frameworkBase.core.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.cyber.base.frameworkBase.core.Properties;
+
+/**
+ * <p>
+ * Gravação das evidências em segundo plano, utilizada pelo
+ * {@link Utils#fullPageScreenshot(String, String, org.openqa.selenium.WebDriver)
+ * fullPageScreenshot}.
+ * <p>
+ * A compressão em PNG, quando necessária, e a escrita em disco são feitas por
+ * até {@link Properties#SCREENSHOT_WRITERS SCREENSHOT_WRITERS} threads,
+ * liberando o cenário logo após a captura. A fila comporta
+ * {@link Properties#SCREENSHOT_QUEUE SCREENSHOT_QUEUE} imagens; com a fila
+ * cheia, ou após o início do encerramento, a própria thread do cenário grava a
+ * imagem, limitando a memória ocupada por imagens pendentes. Ao final da
+ * execução as imagens pendentes são gravadas antes do encerramento da JVM,
+ * aguardando até {@link Properties#SCREENSHOT_FLUSH_SECONDS
+ * SCREENSHOT_FLUSH_SECONDS}.
+ */
+public final class ScreenshotWriter {
+
+	private static final Logger log = LoggerFactory.getLogger(ScreenshotWriter.class.getSimpleName());
+
+	private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(
+			Math.max(1, Properties.SCREENSHOT_WRITERS), Math.max(1, Properties.SCREENSHOT_WRITERS),
+			0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, Properties.SCREENSHOT_QUEUE)),
+			daemon("screenshot-writer"),
+			ScreenshotWriter::writeNow);
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotWriter::flush, "screenshot-writer-flush"));
+	}
+
+	private ScreenshotWriter() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> agenda a gravação da imagem em PNG.
+	 *
+	 * @param image é a {@link BufferedImage imagem} capturada.
+	 * @param file  é o {@link File arquivo} de destino.
+	 */
+	public static void write(BufferedImage image, File file) {
+		writer.execute(() -> encode(image, file));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> agenda a gravação de uma imagem já codificada em
+	 * PNG.
+	 *
+	 * @param png  são os bytes da imagem.
+	 * @param file é o {@link File arquivo} de destino.
+	 */
+	public static void write(byte[] png, File file) {
+		writer.execute(() -> store(png, file));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda a gravação das imagens pendentes e encerra
+	 * as threads de gravação.
+	 */
+	public static void flush() {
+		writer.shutdown();
+		try {
+			if (!writer.awaitTermination(Properties.SCREENSHOT_FLUSH_SECONDS, TimeUnit.SECONDS))
+				log.warn(String.format("Método: flush() - %d evidências não foram gravadas em %d segundos.", writer.getQueue().size() + writer.getActiveCount(), Properties.SCREENSHOT_FLUSH_SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void encode(BufferedImage image, File file) {
+		try {
+			if (!ImageIO.write(image, "PNG", file)) {
+				log.error(String.format("Método: encode() - Nenhum codificador PNG disponível para salvar a Printscreen %s.", file.getPath()));
+				return;
+			}
+			log.info(String.format("Método: encode() - Printscreen salva em %s", file.getPath()));
+		} catch (IOException e) {
+			log.error(String.format("Método: encode() - Falha ao salvar a Printscreen %s: %s", file.getPath(), e.getMessage()));
+		}
+	}
+
+	private static void store(byte[] png, File file) {
+		try {
+			Files.write(file.toPath(), png);
+			log.info(String.format("Método: store() - Printscreen salva em %s", file.getPath()));
+		} catch (IOException e) {
+			log.error(String.format("Método: store() - Falha ao salvar a Printscreen %s: %s", file.getPath(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Com a fila cheia ou durante o encerramento da JVM, a imagem é gravada pela
+	 * própria thread que a enviou, para que nenhuma evidência seja descartada.
+	 */
+	private static void writeNow(Runnable task, ThreadPoolExecutor executor) {
+		task.run();
+	}
+
+	private static ThreadFactory daemon(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
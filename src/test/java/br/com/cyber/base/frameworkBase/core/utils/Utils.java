@@ -1,16 +1,13 @@
 package br.com.cyber.base.frameworkBase.core.utils;
 
 import java.io.File;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Objects;
 
-import javax.imageio.ImageIO;
-
-import br.com.cyber.base.frameworkBase.core.interaction.Interactions;
-import br.com.cyber.base.frameworkBase.enums.ExceptionsMessages;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementCache;
+import br.com.cyber.base.frameworkBase.core.interaction.FrameContext;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,25 +26,26 @@ public class Utils {
 	public static void fullPageScreenshot(String path, String nome, WebDriver driver) {
 		log.info(String.format("Método: fullPageScreenshot() - Tirando Screenshot do arquivo %s", nome));
 
-		try {
-			new Interactions().frameDefault();
+		if (!FrameContext.isTop()) {
+			ElementCache.invalidate();
+			driver.switchTo().defaultContent();
+			FrameContext.top();
+		}
+		File file = new File(String.format("%s_%s.png", path, nome));
+		byte[] png = NativeScreenshot.capture(driver);
+		if (png != null) {
+			ScreenshotWriter.write(png, file);
+		} else {
 			Screenshot screenshot = new AShot()
 					.shootingStrategy(
 							ShootingStrategies
 							.viewportPasting(1000)
 					).takeScreenshot(driver);
 
-			ImageIO.write(
-					screenshot.getImage(),
-					"PNG",
-					new File(String.format("%s_%s.png", path, nome))
-			);
-			log.info(String.format("Salvando a Printscreen no Caminho %s", path));
-			log.info(String.format("O nome da Printscreen é %s", nome));
-
-		} catch (IOException e) {
-			ExceptionsMessages.IO_EXCEPTION.getException(e, "");
+			ScreenshotWriter.write(screenshot.getImage(), file);
 		}
+		log.info(String.format("Salvando a Printscreen no Caminho %s", path));
+		log.info(String.format("O nome da Printscreen é %s", nome));
 	}
 
 	public static String formatter() {
@@ -5,9 +5,6 @@ import static br.com.cyber.base.frameworkBase.core.BrowserOptions.edgeOptions;
 import static br.com.cyber.base.frameworkBase.core.BrowserOptions.firefoxOptions;
 import static br.com.cyber.base.frameworkBase.core.BrowserOptions.operaOptions;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.edge.EdgeDriver;
@@ -17,62 +14,75 @@ import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import br.com.cyber.base.frameworkBase.core.ChromeServices;
+import br.com.cyber.base.frameworkBase.core.DriverBinaries;
+import br.com.cyber.base.frameworkBase.core.GridDispatcher;
+import br.com.cyber.base.frameworkBase.core.PooledHttpClientFactory;
 import br.com.cyber.base.frameworkBase.core.Properties;
-import br.com.cyber.base.frameworkBase.core.exceptions.GridException;
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 public enum Browsers {
 	
 	CHROME {
 		@Override
-		public WebDriver newDriver(boolean headless) {
+		public WebDriver newDriver(boolean headless, boolean lean) {
 			if (Properties.GRID) {
 				DesiredCapabilities capabilities = DesiredCapabilities.chrome();
 				capabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
 				capabilities.setCapability(CapabilityType.ACCEPT_INSECURE_CERTS, true);
-				try {
-					return new RemoteWebDriver(new URL("http://localhost:4444/wd/hub"), capabilities);
-				} catch (MalformedURLException e) {
-					throw new GridException("Problemas com o Selenium grid");
-				}
+				if (lean)
+					capabilities.merge(chromeOptions(false, true));
+				return GridDispatcher.newDriver(capabilities);
 			} else {
-				WebDriverManager.chromedriver().setup();
-				return new ChromeDriver(chromeOptions(headless));				
+				DriverBinaries.setup(this);
+				if (Properties.CHROME_SERVICES > 0)
+					return new RemoteWebDriver(PooledHttpClientFactory.executor(ChromeServices.url()), chromeOptions(headless, lean));
+				return new ChromeDriver(chromeOptions(headless, lean));				
 			}
 		}
 	},
 	FIREFOX {
 		@Override
-		public WebDriver newDriver(boolean headless) {
+		public WebDriver newDriver(boolean headless, boolean lean) {
 			if (Properties.GRID) {
 				DesiredCapabilities capabilities = DesiredCapabilities.firefox();
-				try {
-					return new RemoteWebDriver(new URL("http://localhost:4444/wd/hub"), capabilities);
-				} catch (MalformedURLException e) {
-					throw new GridException("Problemas com o Selenium grid");
-				}
+				if (lean)
+					capabilities.merge(firefoxOptions(false, true));
+				return GridDispatcher.newDriver(capabilities);
 			} else {
-				WebDriverManager.firefoxdriver().setup();
-				return new FirefoxDriver(firefoxOptions(headless));				
+				DriverBinaries.setup(this);
+				return new FirefoxDriver(firefoxOptions(headless, lean));				
 			}
 		}
 	},
 	
 	EDGE {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			WebDriverManager.edgedriver().setup();
+		public WebDriver newDriver(boolean headless, boolean lean) {
+			DriverBinaries.setup(this);
 			return new EdgeDriver(edgeOptions(headless));
 		}
 	},
 
 	OPERA {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			WebDriverManager.operadriver().setup();
+		public WebDriver newDriver(boolean headless, boolean lean) {
+			DriverBinaries.setup(this);
 			return new OperaDriver(operaOptions(headless));
 		}
 	};
 
-    public abstract WebDriver newDriver(boolean headless);
+	public WebDriver newDriver(boolean headless) {
+		return newDriver(headless, Properties.LEAN);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> inicia uma nova sessão do navegador.
+	 *
+	 * @param headless indica se o navegador será iniciado sem interface.
+	 * @param lean     indica se o perfil <i>lean</i> será utilizado (apenas
+	 *                 Chrome e Firefox).
+	 * @return {@link WebDriver WebDriver}
+	 */
+    public abstract WebDriver newDriver(boolean headless, boolean lean);
 }
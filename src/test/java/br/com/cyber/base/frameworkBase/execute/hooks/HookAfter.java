@@ -4,16 +4,29 @@ import java.io.File;
 
 import br.com.cyber.base.frameworkBase.core.DriverFactory;
 import br.com.cyber.base.frameworkBase.core.Properties;
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
+import br.com.cyber.base.frameworkBase.core.ScenarioDeadline;
 import br.com.cyber.base.frameworkBase.core.utils.Utils;
 import io.cucumber.core.api.Scenario;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
 
 public class HookAfter {
+
+	@AfterStep
+	public void encerrarPasso() {
+		ScenarioDeadline.endStep();
+	}
+
+	@After(order = 2)
+	public void encerrarOrcamento() {
+		ScenarioDeadline.endStep();
+	}
 	
 	@After(order = 1)
 	public void screenshot(Scenario scenario) {
 
-		String nome = String.format("%s_%s", scenario.getName().replace(" ", "_"), Utils.formatter());
+		String nome = String.format("%s_%d_%s", scenario.getName().replace(" ", "_"), scenario.getLine(), Utils.formatter());
 		String evidencia = (!scenario.isFailed()) ? evidencia = "sucesso" : "erro";
 		String caminho = Utils.pathScreenshot() + evidencia + File.separator;
 
@@ -22,7 +35,11 @@ public class HookAfter {
 
 	@After(order = 0)
 	public void finalizar() {
-		if (Properties.CLOSE)
-			DriverFactory.killDriver();
+		try {
+			if (Properties.CLOSE)
+				DriverFactory.killDriver();
+		} finally {
+			ScenarioContext.end();
+		}
 	}
 }
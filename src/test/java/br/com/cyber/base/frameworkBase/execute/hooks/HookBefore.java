@@ -5,25 +5,39 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 
-import br.com.cyber.base.frameworkBase.core.utils.InputDeDados;
+import br.com.cyber.base.frameworkBase.core.ScenarioContext;
+import br.com.cyber.base.frameworkBase.core.ScenarioDeadline;
 
 import io.cucumber.core.api.Scenario;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
 
 public class HookBefore {
 	
 	@Before(order = 0)
 	public static void coletarDados(Scenario scenario) throws IOException {
 		
+		ScenarioContext context = ScenarioContext.start(scenario);
+		ScenarioDeadline.start(scenario);
 		String pathScenario = scenario.getUri().replace("file:", "");
 		
 		List<String> allLines = Files.readAllLines(Paths.get(pathScenario));
 		int count = 1;
 		for (String line : allLines) {
 			if (count == scenario.getLine()) {
-				InputDeDados.setInput(line);
+				context.setInput(line);
 			}
 			count++;
 		}
 	}
+
+	@Before(value = "@lean", order = 1)
+	public void perfilLean() {
+		ScenarioContext.get().setLean(true);
+	}
+
+	@BeforeStep
+	public void iniciarPasso() {
+		ScenarioDeadline.startStep();
+	}
 }
@@ -0,0 +1,47 @@
+package br.com.cyber.base.frameworkBase.execute.runners;
+
+import br.com.cyber.base.frameworkBase.core.utils.Utils;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.CucumberOptions.SnippetType;
+
+/**
+ * Executa os cenários em paralelo. Utilize o profile <i>paralelo</i> e informe
+ * a quantidade de threads com <i>-Dthreads</i> (padrão: número de núcleos).
+ * <p>
+ * {@code mvn test -Pparalelo -Dthreads=8}
+ */
+@CucumberOptions(features = "src/test/resources/features",
+		glue = "br.com.cyber.base.frameworkBase.execute",
+		tags = {
+				"@CompraSimples"
+		},
+		plugin = {
+				"com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
+				"json:target/evidencias/json/report.json",
+		},
+		monochrome = true,
+		snippets = SnippetType.CAMELCASE,
+		dryRun = false, 
+		strict = true
+		)
+public class RunnerParallel extends AbstractTestNGCucumberTests {
+
+	@BeforeClass(alwaysRun = true)
+	public void screenshotFileCheck(ITestContext context) {
+		Utils.createFiles();
+		Utils.deleteFiles();
+		context.getCurrentXmlTest().getSuite().setDataProviderThreadCount(
+				Integer.getInteger("threads", Runtime.getRuntime().availableProcessors()));
+	}
+
+	@Override
+	@DataProvider(parallel = true)
+	public Object[][] scenarios() {
+		return super.scenarios();
+	}
+}
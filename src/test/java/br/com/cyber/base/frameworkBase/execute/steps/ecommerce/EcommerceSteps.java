@@ -2,6 +2,8 @@ package br.com.cyber.base.frameworkBase.execute.steps.ecommerce;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Map;
+
 import br.com.cyber.base.frameworkBase.pages.ecommerce.EcommercePage;
 import br.com.cyber.base.frameworkBase.pages.ecommerce.EcommerceProductsPage;
 import br.com.cyber.base.frameworkBase.pages.ecommerce.EcommerceResumePage;
@@ -23,14 +25,16 @@ public class EcommerceSteps {
 
     @And("compro uma mochila")
     public void comproUmaMochila() {
-        new EcommerceProductsPage().comprarMochila();
+        EcommerceProductsPage produtos = new EcommerceProductsPage();
+        produtos.comprarMochila();
 
-        assertEquals("Sauce Labs Backpack",new EcommerceProductsPage().obterNomeProduto());
-        assertEquals("$29.99", new EcommerceProductsPage().obterValorProduto());
+        Map<String, String> produto = produtos.obterDadosProduto();
+        assertEquals("Sauce Labs Backpack", produto.get("nome"));
+        assertEquals("$29.99", produto.get("valor"));
 
-        new EcommerceProductsPage().fazerCheckout();
+        produtos.fazerCheckout();
 
-        new EcommerceProductsPage().escreverDados();
+        produtos.escreverDados();
     }
 
     @Then("finalizo a compra")
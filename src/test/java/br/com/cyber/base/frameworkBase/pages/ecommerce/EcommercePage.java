@@ -5,6 +5,9 @@ import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class EcommercePage extends BasePage {
 
     private static final Logger log = LoggerFactory.getLogger(EcommercePage.class.getSimpleName());
@@ -20,11 +23,12 @@ public class EcommercePage extends BasePage {
     }
 
     public void login(String username){
-        interactions.click(inputUsername, "inputUsername");
-        interactions.write(inputUsername, username, "inputUsername");
+        Map<By, String> credenciais = new LinkedHashMap<>();
+        credenciais.put(inputUsername, username);
+        credenciais.put(inputPassword, "secret_sauce");
 
-        interactions.click(inputPassword, "inputPassword");
-        interactions.write(inputPassword, "secret_sauce", "inputPassword");
+        interactions.awaitElement(inputUsername, "inputUsername");
+        interactions.fillForm(credenciais, "formLogin");
 
         interactions.click(btnLogin, "btnLogin");
     }
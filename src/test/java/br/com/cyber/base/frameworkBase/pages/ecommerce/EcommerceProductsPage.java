@@ -1,8 +1,12 @@
 package br.com.cyber.base.frameworkBase.pages.ecommerce;
 
 import br.com.cyber.base.frameworkBase.core.BasePage;
+import br.com.cyber.base.frameworkBase.core.interaction.ElementReader;
 import org.openqa.selenium.By;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class EcommerceProductsPage extends BasePage {
 
     private final By divBackpack = By.xpath("//div[@class='inventory_item_name']");
@@ -31,6 +35,12 @@ public class EcommerceProductsPage extends BasePage {
         return interactions.getText(divPrice, "divPrice");
     }
 
+    public Map<String, String> obterDadosProduto(){
+        return interactions.read(new ElementReader()
+                .text("nome", divBackpack)
+                .text("valor", divPrice), "dadosProduto");
+    }
+
     public void fazerCheckout(){
         interactions.click(btnAddCart, "btnAddCart");
 
@@ -41,9 +51,12 @@ public class EcommerceProductsPage extends BasePage {
     }
 
     public void escreverDados(){
-        interactions.write(inputFirstName, "Luis", "inputFirstName");
-        interactions.write(inputLastName, "Michael", "inputLastName");
-        interactions.write(inputPostalCode, "000000", "inputPostalCode");
+        Map<By, String> dados = new LinkedHashMap<>();
+        dados.put(inputFirstName, "Luis");
+        dados.put(inputLastName, "Michael");
+        dados.put(inputPostalCode, "000000");
+
+        interactions.fillForm(dados, "formCheckout");
 
         interactions.click(inputContinue, "inputContinue");
     }